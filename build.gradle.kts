@@ -5,17 +5,58 @@ plugins {
 group = "org.example"
 version = "1.0-SNAPSHOT"
 
+val jmhVersion = "1.37"
+
 repositories {
     mavenCentral()
 }
 
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core:3.21.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks with the GC profiler and writes JSON results."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val workDir = layout.buildDirectory.dir("jmh-work")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    val include = project.findProperty("jmhInclude")?.toString()
+
+    workingDir(workDir)
+    doFirst {
+        workDir.get().asFile.mkdirs()
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+
+    if (include != null) {
+        args(include)
+    }
+
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+}
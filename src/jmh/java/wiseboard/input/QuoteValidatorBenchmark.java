@@ -0,0 +1,30 @@
+package wiseboard.input;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteValidatorBenchmark {
+
+    @Param({"현재를 사랑하라", "Stay hungry stay foolish", "오늘 3번째 Coffee 한잔", "명언에 특수문자가 있다!"})
+    public String text;
+
+    @Benchmark
+    public boolean IsAllowedText() {
+        return QuoteValidator.IsAllowedText(text);
+    }
+}
@@ -0,0 +1,90 @@
+package wiseboard.repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import wiseboard.config.WiseConfig;
+import wiseboard.domain.WiseQuote;
+
+final class BenchmarkData {
+
+    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
+    private static final Path DATA_JSON_FILE = Paths.get("data.json");
+    private static final Path IMPORT_FILE = Paths.get("benchmark-import.ndjson");
+
+    private BenchmarkData() {
+    }
+
+    static void Configure(String storage, boolean snapshot) {
+        System.setProperty("wiseboard.storage", storage);
+        System.setProperty("wiseboard.snapshot", String.valueOf(snapshot));
+    }
+
+    static WiseRepository Open() {
+        return new WiseRepository(WiseConfig.Load());
+    }
+
+    static WiseRepository Create(String storage, boolean snapshot, int quoteCount) throws IOException {
+        Reset();
+        Configure(storage, snapshot);
+        WiseRepository repository = Open();
+        Fill(repository, quoteCount);
+
+        return repository;
+    }
+
+    static void Fill(WiseRepository repository, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(IMPORT_FILE, StandardCharsets.UTF_8)) {
+            int i = 0;
+
+            while (i < count) {
+                WiseQuote quote = Sample(i);
+                writer.write("{\"content\":\"" + quote.content() + "\",\"author\":\"" + quote.author() + "\"}\n");
+                i++;
+            }
+        }
+
+        repository.Import(IMPORT_FILE, quote -> {
+        });
+        Files.deleteIfExists(IMPORT_FILE);
+    }
+
+    static WiseQuote Sample(int i) {
+        return new WiseQuote(i + 1, "작가 " + (i % 500), "현재를 사랑하라 명언 번호 " + i + " Stay hungry");
+    }
+
+    static WiseQuote[] Samples(int count) {
+        WiseQuote[] quotes = new WiseQuote[count];
+        int i = 0;
+
+        while (i < count) {
+            quotes[i] = Sample(i);
+            i++;
+        }
+
+        return quotes;
+    }
+
+    static void Reset() throws IOException {
+        Files.deleteIfExists(DATA_JSON_FILE);
+
+        if (!Files.exists(DB_DIR)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(DB_DIR)) {
+            Path[] sorted = paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new);
+            int i = 0;
+
+            while (i < sorted.length) {
+                Files.deleteIfExists(sorted[i]);
+                i++;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package wiseboard.repository;
+
+import wiseboard.domain.WiseQuote;
+
+final class LegacyQuoteJson {
+
+    private LegacyQuoteJson() {
+    }
+
+    static String ToQuoteJson(WiseQuote quote) {
+        return "{\n"
+                + "  \"id\": " + quote.id() + ",\n"
+                + "  \"content\": \"" + quote.content() + "\",\n"
+                + "  \"author\": \"" + quote.author() + "\"\n"
+                + "}\n";
+    }
+
+    static WiseQuote ParseQuoteJson(String json) {
+        Integer id = ParseIntField(json, "\"id\":");
+        String content = ParseStringField(json, "\"content\":");
+        String author = ParseStringField(json, "\"author\":");
+
+        if (id == null || content == null || author == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return new WiseQuote(id, author, content);
+    }
+
+    private static Integer ParseIntField(String json, String key) {
+        int index = json.indexOf(key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        int start = index + key.length();
+
+        while (start < json.length() && IsWhitespace(json.charAt(start))) {
+            start++;
+        }
+
+        int end = start;
+
+        while (end < json.length() && json.charAt(end) >= '0' && json.charAt(end) <= '9') {
+            end++;
+        }
+
+        if (start == end) {
+            return null;
+        }
+
+        return Integer.valueOf(json.substring(start, end));
+    }
+
+    private static String ParseStringField(String json, String key) {
+        int idx = json.indexOf(key);
+
+        if (idx < 0) {
+            return null;
+        }
+
+        int start = idx + key.length();
+
+        while (start < json.length() && IsWhitespace(json.charAt(start))) {
+            start++;
+        }
+
+        if (start >= json.length() || json.charAt(start) != '\"') {
+            return null;
+        }
+
+        start++;
+
+        int end = json.indexOf('\"', start);
+
+        if (end < 0) {
+            return null;
+        }
+
+        return json.substring(start, end);
+    }
+
+    private static boolean IsWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
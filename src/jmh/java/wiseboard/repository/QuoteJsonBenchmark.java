@@ -0,0 +1,112 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import wiseboard.domain.WiseQuote;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteJsonBenchmark {
+
+    private static final int QUOTE_COUNT = 4096;
+    private static final int DATA_JSON_COUNT = 100_000;
+
+    private WiseQuote[] quotes;
+    private byte[][] files;
+    private String[] texts;
+    private QuoteIndex index;
+    private DataJsonWriter dataJsonWriter;
+    private Path dataJson;
+    private int cursor;
+
+    @Setup
+    public void Setup() throws IOException {
+        quotes = BenchmarkData.Samples(QUOTE_COUNT);
+        files = new byte[QUOTE_COUNT][];
+        texts = new String[QUOTE_COUNT];
+        int i = 0;
+
+        while (i < QUOTE_COUNT) {
+            files[i] = QuoteJson.QuoteFileBytes(quotes[i]);
+            texts[i] = new String(files[i], StandardCharsets.UTF_8);
+            i++;
+        }
+
+        index = new QuoteIndex();
+        WiseQuote[] rows = BenchmarkData.Samples(DATA_JSON_COUNT);
+        i = 0;
+
+        while (i < rows.length) {
+            index.Add(rows[i]);
+            i++;
+        }
+
+        dataJson = Files.createTempFile("wise-benchmark", ".json");
+        dataJsonWriter = new DataJsonWriter(dataJson, false);
+        dataJsonWriter.Write(index);
+    }
+
+    @TearDown
+    public void TearDown() throws IOException {
+        Files.deleteIfExists(dataJson);
+    }
+
+    @Benchmark
+    public WiseQuote ParseQuoteJsonLegacy() {
+        return LegacyQuoteJson.ParseQuoteJson(texts[Next()]);
+    }
+
+    @Benchmark
+    public WiseQuote ParseQuoteJson() throws IOException {
+        return QuoteJson.ReadQuote(new JsonReader(ByteBuffer.wrap(files[Next()])));
+    }
+
+    @Benchmark
+    public byte[] WriteQuoteJsonLegacy() {
+        return LegacyQuoteJson.ToQuoteJson(quotes[Next()]).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] WriteQuoteJson() {
+        return QuoteJson.QuoteFileBytes(quotes[Next()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void WriteDataJson() {
+        dataJsonWriter.Write(index);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int ReadDataJson() {
+        int[] count = {0};
+        DataJsonReader.Read(dataJson, quote -> count[0]++);
+
+        return count[0];
+    }
+
+    private int Next() {
+        cursor = (cursor + 1) & (QUOTE_COUNT - 1);
+        return cursor;
+    }
+}
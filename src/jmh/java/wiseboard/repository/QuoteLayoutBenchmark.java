@@ -0,0 +1,100 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import wiseboard.domain.WiseQuote;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QuoteLayoutBenchmark {
+
+    @Param({"1000000"})
+    public int quoteCount;
+
+    @Param({"flat", "sharded"})
+    public String layout;
+
+    private Path dbDir;
+    private FileQuoteStorage storage;
+    private int nextId;
+
+    @Setup
+    public void Setup() throws IOException {
+        dbDir = Files.createTempDirectory("wise-layout");
+        storage = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.From(layout));
+        storage.Load(new QuoteIndex());
+        storage.BeginBatch();
+        int i = 0;
+
+        while (i < quoteCount) {
+            storage.WriteRegister(BenchmarkData.Sample(i));
+            i++;
+        }
+
+        storage.CommitBatch();
+        nextId = quoteCount + 1;
+    }
+
+    @TearDown
+    public void TearDown() throws IOException {
+        storage.Close();
+
+        try (Stream<Path> paths = Files.walk(dbDir)) {
+            Path[] sorted = paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new);
+            int i = 0;
+
+            while (i < sorted.length) {
+                Files.deleteIfExists(sorted[i]);
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean Exists() {
+        return Files.exists(storage.QuoteFile(RandomId()));
+    }
+
+    @Benchmark
+    public WiseQuote Read() {
+        return storage.ReadQuote(RandomId());
+    }
+
+    @Benchmark
+    public void Modify() {
+        int id = RandomId();
+        storage.WriteModify(new WiseQuote(id, "작가", "수정된 명언 " + id));
+    }
+
+    @Benchmark
+    public void RegisterDelete() {
+        int id = nextId++;
+        storage.WriteRegister(new WiseQuote(id, "작가", "새 명언 " + id));
+        storage.WriteDelete(id);
+    }
+
+    private int RandomId() {
+        return ThreadLocalRandom.current().nextInt(1, quoteCount + 1);
+    }
+}
@@ -0,0 +1,67 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import wiseboard.domain.WiseQuote;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WiseRepositoryBenchmark {
+
+    @Param({"10000", "100000"})
+    public int quoteCount;
+
+    @Param({"file", "log"})
+    public String storage;
+
+    private WiseRepository repository;
+    private int cursor;
+
+    @Setup
+    public void Setup() throws IOException {
+        repository = BenchmarkData.Create(storage, false, quoteCount);
+    }
+
+    @TearDown
+    public void TearDown() throws IOException {
+        repository.Close();
+        BenchmarkData.Reset();
+    }
+
+    @Benchmark
+    public WiseQuote Save() {
+        return repository.Save("작가 " + (cursor++ % 500), "현재를 사랑하라 Stay hungry");
+    }
+
+    @Benchmark
+    public WiseQuote FindById() {
+        cursor = cursor % quoteCount + 1;
+        return repository.FindById(cursor);
+    }
+
+    @Benchmark
+    public WiseQuote[] FindAllDesc() {
+        return repository.FindAllDesc();
+    }
+
+    @Benchmark
+    public void BuildDataJson() {
+        repository.BuildDataJson();
+    }
+}
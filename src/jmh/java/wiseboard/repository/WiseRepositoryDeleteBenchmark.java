@@ -0,0 +1,59 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, batchSize = WiseRepositoryDeleteBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = WiseRepositoryDeleteBenchmark.BATCH_SIZE)
+@Fork(1)
+public class WiseRepositoryDeleteBenchmark {
+
+    static final int BATCH_SIZE = 10_000;
+
+    @Param({"file", "log"})
+    public String storage;
+
+    private WiseRepository repository;
+    private int cursor;
+
+    @Setup
+    public void Setup() throws IOException {
+        repository = BenchmarkData.Create(storage, false, 0);
+    }
+
+    @Setup(Level.Iteration)
+    public void Refill() throws IOException {
+        cursor = repository.Save("작가", "현재를 사랑하라").id();
+        BenchmarkData.Fill(repository, BATCH_SIZE - 1);
+    }
+
+    @TearDown
+    public void TearDown() throws IOException {
+        repository.Close();
+        BenchmarkData.Reset();
+    }
+
+    @Benchmark
+    public boolean DeleteById() {
+        boolean deleted = repository.DeleteById(cursor);
+        cursor++;
+
+        return deleted;
+    }
+}
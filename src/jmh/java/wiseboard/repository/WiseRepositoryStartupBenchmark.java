@@ -0,0 +1,58 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WiseRepositoryStartupBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int quoteCount;
+
+    @Param({"file", "log"})
+    public String storage;
+
+    @Param({"false", "true"})
+    public boolean snapshot;
+
+    private WiseRepository loaded;
+
+    @Setup
+    public void Setup() throws IOException {
+        BenchmarkData.Create(storage, snapshot, quoteCount).Close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void CloseLoaded() {
+        loaded.Close();
+    }
+
+    @TearDown
+    public void TearDown() throws IOException {
+        BenchmarkData.Reset();
+    }
+
+    @Benchmark
+    public int Startup() {
+        loaded = BenchmarkData.Open();
+        return loaded.LoadReport().quoteCount();
+    }
+}
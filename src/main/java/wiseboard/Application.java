@@ -1,10 +1,29 @@
 package wiseboard;
 
+import jdk.jfr.Recording;
+import wiseboard.config.WiseConfig;
 import wiseboard.controller.WiseController;
+import wiseboard.jfr.WiseRecording;
+import wiseboard.server.WiseServer;
 
 public class Application {
     public static void main(String[] args) {
+        WiseConfig.ApplyArgs(args);
+        WiseConfig config = WiseConfig.Load();
+
+        Recording recording = WiseRecording.Start(config.JfrFile());
+
+        if (config.ServerEnabled()) {
+            WiseServer.Launch();
+            return;
+        }
+
         WiseController wiseController = new WiseController();
-        wiseController.Run();
+
+        try {
+            wiseController.Run();
+        } finally {
+            WiseRecording.Stop(recording);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,245 @@
+package wiseboard.config;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.util.Properties;
+import wiseboard.repository.Durability;
+import wiseboard.repository.QuoteLayout;
+import wiseboard.repository.QuoteStoreMode;
+import wiseboard.repository.StorageMode;
+
+public class WiseConfig {
+
+    private static final String PROPERTY_PREFIX = "wiseboard.";
+    private static final String ARG_PREFIX = "--";
+
+    private static final String DB_DIR_KEY = "dbDir";
+    private static final String STORAGE_KEY = "storage";
+    private static final String SNAPSHOT_KEY = "snapshot";
+    private static final String SNAPSHOT_INTERVAL_KEY = "snapshotInterval";
+    private static final String SEARCH_KEY = "search";
+    private static final String QUOTE_STORE_KEY = "store";
+    private static final String COMPACT_CONTENT_KEY = "compactContent";
+    private static final String DURABILITY_KEY = "durability";
+    private static final String GROUP_COMMIT_MILLIS_KEY = "groupCommitMillis";
+    private static final String GROUP_COMMIT_RECORDS_KEY = "groupCommitRecords";
+    private static final String SERVER_KEY = "server";
+    private static final String PORT_KEY = "port";
+    private static final String BATCH_KEY = "batch";
+    private static final String BATCH_SIZE_KEY = "batchSize";
+    private static final String METRICS_KEY = "metrics";
+    private static final String METRICS_FILE_KEY = "metricsFile";
+    private static final String JFR_KEY = "jfr";
+    private static final String WRITE_BEHIND_KEY = "writeBehind";
+    private static final String WRITE_BEHIND_QUEUE_KEY = "writeBehindQueue";
+    private static final String CACHE_BYTES_KEY = "cacheBytes";
+    private static final String LAYOUT_KEY = "layout";
+    private static final String COMPRESS_KEY = "compress";
+    private static final String COMPRESS_LEVEL_KEY = "compressLevel";
+    private static final String DEFAULT_JFR_FILE = "wiseboard.jfr";
+
+    private static final String INVALID_NUMBER_ERROR = "실행 옵션은 0 이상의 정수여야 합니다: ";
+
+    private final String dbDir;
+    private final StorageMode storageMode;
+    private final boolean snapshotEnabled;
+    private final int snapshotInterval;
+    private final boolean searchEnabled;
+    private final QuoteStoreMode quoteStoreMode;
+    private final boolean compactContent;
+    private final Durability durability;
+    private final int groupCommitMillis;
+    private final int groupCommitRecords;
+    private final boolean serverEnabled;
+    private final int serverPort;
+    private final boolean batchMode;
+    private final int batchSize;
+    private final boolean metricsEnabled;
+    private final String metricsFile;
+    private final String jfrFile;
+    private final boolean writeBehind;
+    private final int writeBehindQueue;
+    private final int cacheBytes;
+    private final QuoteLayout quoteLayout;
+    private final boolean compress;
+    private final int compressLevel;
+
+    private WiseConfig(Properties properties) {
+        this.dbDir = Get(properties, DB_DIR_KEY, "db/wiseSaying");
+        this.storageMode = StorageMode.From(Get(properties, STORAGE_KEY, "file"));
+        this.snapshotEnabled = Boolean.parseBoolean(Get(properties, SNAPSHOT_KEY, "true"));
+        this.snapshotInterval = GetInt(properties, SNAPSHOT_INTERVAL_KEY, 10000);
+        this.searchEnabled = Boolean.parseBoolean(Get(properties, SEARCH_KEY, "true"));
+        this.quoteStoreMode = QuoteStoreMode.From(Get(properties, QUOTE_STORE_KEY, "heap"));
+        this.compactContent = Boolean.parseBoolean(Get(properties, COMPACT_CONTENT_KEY, "false"));
+        this.durability = Durability.From(Get(properties, DURABILITY_KEY, "async"));
+        this.groupCommitMillis = GetInt(properties, GROUP_COMMIT_MILLIS_KEY, 5);
+        this.groupCommitRecords = GetInt(properties, GROUP_COMMIT_RECORDS_KEY, 256);
+        this.serverEnabled = Boolean.parseBoolean(Get(properties, SERVER_KEY, "false"));
+        this.serverPort = GetInt(properties, PORT_KEY, 8080);
+        this.batchMode = Boolean.parseBoolean(Get(properties, BATCH_KEY, "false"));
+        this.batchSize = GetInt(properties, BATCH_SIZE_KEY, 1000);
+        this.metricsEnabled = Boolean.parseBoolean(Get(properties, METRICS_KEY, "false"));
+        this.metricsFile = Get(properties, METRICS_FILE_KEY, "metrics.json");
+        this.jfrFile = JfrFile(Get(properties, JFR_KEY, ""));
+        this.writeBehind = Boolean.parseBoolean(Get(properties, WRITE_BEHIND_KEY, "false"));
+        this.writeBehindQueue = GetInt(properties, WRITE_BEHIND_QUEUE_KEY, 10000);
+        this.cacheBytes = GetInt(properties, CACHE_BYTES_KEY, 64 * 1024 * 1024);
+        this.quoteLayout = QuoteLayout.From(Get(properties, LAYOUT_KEY, "flat"));
+        this.compress = Boolean.parseBoolean(Get(properties, COMPRESS_KEY, "false"));
+        this.compressLevel = GetInt(properties, COMPRESS_LEVEL_KEY, 6);
+    }
+
+    public static WiseConfig Load() {
+        return new WiseConfig(System.getProperties());
+    }
+
+    public static void ApplyArgs(String[] args) {
+        int i = 0;
+
+        while (i < args.length) {
+            String arg = args[i];
+            i++;
+
+            if (!arg.startsWith(ARG_PREFIX)) {
+                continue;
+            }
+
+            String option = arg.substring(ARG_PREFIX.length());
+            int eq = option.indexOf('=');
+
+            if (eq < 0) {
+                System.setProperty(PROPERTY_PREFIX + option, "true");
+                continue;
+            }
+
+            System.setProperty(PROPERTY_PREFIX + option.substring(0, eq), option.substring(eq + 1));
+        }
+    }
+
+    public String DbDir() {
+        return dbDir;
+    }
+
+    public StorageMode StorageMode() {
+        return storageMode;
+    }
+
+    public boolean SnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    public int SnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public boolean SearchEnabled() {
+        return searchEnabled;
+    }
+
+    public QuoteStoreMode QuoteStoreMode() {
+        return quoteStoreMode;
+    }
+
+    public boolean CompactContent() {
+        return compactContent;
+    }
+
+    public Durability Durability() {
+        return durability;
+    }
+
+    public int GroupCommitMillis() {
+        return groupCommitMillis;
+    }
+
+    public int GroupCommitRecords() {
+        return groupCommitRecords;
+    }
+
+    public boolean ServerEnabled() {
+        return serverEnabled;
+    }
+
+    public int ServerPort() {
+        return serverPort;
+    }
+
+    public boolean BatchMode() {
+        return batchMode;
+    }
+
+    public int BatchSize() {
+        return batchSize;
+    }
+
+    public boolean MetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public String MetricsFile() {
+        return metricsFile;
+    }
+
+    public String JfrFile() {
+        return jfrFile;
+    }
+
+    public boolean WriteBehind() {
+        return writeBehind;
+    }
+
+    public int WriteBehindQueue() {
+        return writeBehindQueue;
+    }
+
+    public int CacheBytes() {
+        return cacheBytes;
+    }
+
+    public QuoteLayout QuoteLayout() {
+        return quoteLayout;
+    }
+
+    public boolean Compress() {
+        return compress;
+    }
+
+    public int CompressLevel() {
+        return compressLevel;
+    }
+
+    private static String JfrFile(String value) {
+        String file = value.trim();
+
+        if (file.equals("true")) {
+            return DEFAULT_JFR_FILE;
+        }
+
+        if (file.equals("false")) {
+            return "";
+        }
+
+        return file;
+    }
+
+    private static int GetInt(Properties properties, String key, int defaultValue) {
+        String value = Get(properties, key, String.valueOf(defaultValue));
+
+        try {
+            int parsed = Integer.parseInt(value.trim());
+
+            if (parsed < 0) {
+                throw new IllegalArgumentException(ERROR_PREFIX + INVALID_NUMBER_ERROR + key);
+            }
+
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_NUMBER_ERROR + key);
+        }
+    }
+
+    private static String Get(Properties properties, String key, String defaultValue) {
+        return properties.getProperty(PROPERTY_PREFIX + key, defaultValue);
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.domain;
+
+public record QuotePage(WiseQuote[] quotes, int page, int totalPages, int totalCount) {
+}
@@ -1,4 +1,4 @@
 package wiseboard.domain;
 
-public record WiseQuote(Integer id, String author, String content) {
+public record WiseQuote(int id, String author, String content) {
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package wiseboard.input;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class CommandQuery {
+
+    private static final String INVALID_QUERY_ERROR = "명령어 인자 형식이 올바르지 않습니다. 예) 목록?page=2, 목록?from=1&to=10";
+    private static final String UNKNOWN_PARAM_ERROR = "알 수 없는 명령어 인자입니다: ";
+    private static final String INVALID_NUMBER_ERROR = "은(는) 1 이상의 정수여야 합니다.";
+
+    private final Map<String, String> params;
+
+    private CommandQuery(Map<String, String> params) {
+        this.params = params;
+    }
+
+    public static CommandQuery Parse(String command, Set<String> allowedKeys) {
+        Map<String, String> params = new HashMap<>();
+        int start = command.indexOf('?');
+
+        if (start < 0) {
+            return new CommandQuery(params);
+        }
+
+        String[] pairs = command.substring(start + 1).split("&");
+        int i = 0;
+
+        while (i < pairs.length) {
+            String pair = pairs[i];
+            int eq = pair.indexOf('=');
+
+            if (eq <= 0) {
+                throw new IllegalArgumentException(ERROR_PREFIX + INVALID_QUERY_ERROR);
+            }
+
+            String key = pair.substring(0, eq).trim();
+
+            if (!allowedKeys.contains(key)) {
+                throw new IllegalArgumentException(ERROR_PREFIX + UNKNOWN_PARAM_ERROR + key);
+            }
+
+            params.put(key, pair.substring(eq + 1).trim());
+            i++;
+        }
+
+        return new CommandQuery(params);
+    }
+
+    public boolean Has(String key) {
+        return params.containsKey(key);
+    }
+
+    public String Get(String key) {
+        return params.get(key);
+    }
+
+    public int GetPositiveInt(String key, int defaultValue) {
+        String value = params.get(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+
+            if (parsed < 1) {
+                throw new IllegalArgumentException(ERROR_PREFIX + key + INVALID_NUMBER_ERROR);
+            }
+
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + key + INVALID_NUMBER_ERROR);
+        }
+    }
+}
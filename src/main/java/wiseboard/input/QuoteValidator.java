@@ -0,0 +1,83 @@
+package wiseboard.input;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+public final class QuoteValidator {
+
+    private static final String BLANK_CONTENT_ERROR = "명언 내용은 공백일 수 없습니다. 한글/영문/숫자/공백만 입력 가능합니다.";
+    private static final String BLANK_AUTHOR_ERROR = "작가명은 공백일 수 없습니다. 한글/영문/숫자/공백만 입력 가능합니다.";
+    private static final String INVALID_CONTENT_CHAR_ERROR = "명언 내용에 허용되지 않는 문자가 포함되어 있습니다. 허용: 한글/영문/숫자/공백";
+    private static final String INVALID_AUTHOR_CHAR_ERROR = "작가명에 허용되지 않는 문자가 포함되어 있습니다. 허용: 한글/영문/숫자/공백";
+    private static final String BLANK_KEYWORD_ERROR = "검색어는 공백일 수 없습니다. 예) 검색?keyword=통닭";
+    private static final String INVALID_KEYWORD_CHAR_ERROR = "검색어에 허용되지 않는 문자가 포함되어 있습니다. 허용: 한글/영문/숫자/공백";
+
+    private QuoteValidator() {
+    }
+
+    public static void ValidateContent(String content) {
+        if (IsBlank(content)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_CONTENT_ERROR);
+        }
+
+        if (!IsAllowedText(content)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_CONTENT_CHAR_ERROR);
+        }
+    }
+
+    public static void ValidateAuthor(String author) {
+        if (IsBlank(author)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_AUTHOR_ERROR);
+        }
+
+        if (!IsAllowedText(author)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_AUTHOR_CHAR_ERROR);
+        }
+    }
+
+    public static void ValidateKeyword(String keyword) {
+        if (IsBlank(keyword)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_KEYWORD_ERROR);
+        }
+
+        if (!IsAllowedText(keyword)) {
+            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_KEYWORD_CHAR_ERROR);
+        }
+    }
+
+    private static boolean IsBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    public static boolean IsAllowedText(String value) {
+        int i = 0;
+
+        while (i < value.length()) {
+            char c = value.charAt(i);
+
+            if (IsKorean(c) || IsEnglish(c) || IsDigit(c) || IsSpace(c)) {
+                i++;
+                continue;
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean IsKorean(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean IsEnglish(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean IsDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean IsSpace(char c) {
+        return c == ' ';
+    }
+}
@@ -1,7 +1,19 @@
 package wiseboard.input;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Set;
+import wiseboard.config.WiseConfig;
+import wiseboard.domain.QuotePage;
 import wiseboard.domain.WiseQuote;
+import wiseboard.jfr.CommandEvent;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+import wiseboard.repository.CompressionReport;
+import wiseboard.repository.StorageException;
 import wiseboard.repository.WiseRepository;
 import wiseboard.service.WiseService;
 import wiseboard.view.WiseOutput;
@@ -12,25 +24,52 @@ public class WiseInput {
     private static final String FINISH_COMMAND = "종료";
     private static final String REGISTER_COMMAND = "등록";
     private static final String LIST_COMMAND = "목록";
+    private static final String LIST_QUERY_PREFIX = "목록?";
     private static final String DELETE_PREFIX = "삭제?id=";
     private static final String MODIFY_PREFIX = "수정?id=";
     private static final String BUILD_COMMAND = "빌드";
+    private static final String MEMORY_COMMAND = "메모리";
+    private static final String STATS_COMMAND = "통계";
+    private static final String SEARCH_PREFIX = "검색?";
+    private static final String IMPORT_PREFIX = "가져오기?";
+    private static final String EXPORT_PREFIX = "내보내기?";
+
+    private static final String PAGE_PARAM = "page";
+    private static final String SIZE_PARAM = "size";
+    private static final String FROM_PARAM = "from";
+    private static final String TO_PARAM = "to";
+    private static final String KEYWORD_PARAM = "keyword";
+    private static final String AUTHOR_PARAM = "author";
+    private static final String FILE_PARAM = "file";
+    private static final Set<String> LIST_PARAMS = Set.of(PAGE_PARAM, SIZE_PARAM, FROM_PARAM, TO_PARAM, AUTHOR_PARAM);
+    private static final Set<String> SEARCH_PARAMS = Set.of(KEYWORD_PARAM, PAGE_PARAM, SIZE_PARAM);
+    private static final Set<String> FILE_PARAMS = Set.of(FILE_PARAM);
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int INPUT_BUFFER_SIZE = 1 << 16;
+    private static final int LIST_CHUNK_SIZE = 4096;
 
     public static final String ERROR_PREFIX = "[ERROR] ";
-    private static final String INVALID_COMMAND_ERROR = "알 수 없는 명령어입니다. 사용 가능한 명령: 등록, 목록, 삭제?id={번호}, 수정?id={번호}, 종료";
+    private static final String INVALID_COMMAND_ERROR = "알 수 없는 명령어입니다. 사용 가능한 명령: 등록, 목록, 목록?page={페이지}, 목록?from={번호}&to={번호}, 목록?author={작가}, 검색?keyword={검색어}, 삭제?id={번호}, 수정?id={번호}, 빌드, 메모리, 통계, 가져오기?file={파일}, 내보내기?file={파일}, 종료";
     private static final String INVALID_ID_ERROR = "id는 1 이상의 정수여야 합니다. 예) 삭제?id=1, 수정?id=2";
-    private static final String BLANK_CONTENT_ERROR = "명언 내용은 공백일 수 없습니다. 한글/영문/숫자/공백만 입력 가능합니다.";
-    private static final String BLANK_AUTHOR_ERROR = "작가명은 공백일 수 없습니다. 한글/영문/숫자/공백만 입력 가능합니다.";
-    private static final String INVALID_CONTENT_CHAR_ERROR = "명언 내용에 허용되지 않는 문자가 포함되어 있습니다. 허용: 한글/영문/숫자/공백";
-    private static final String INVALID_AUTHOR_CHAR_ERROR = "작가명에 허용되지 않는 문자가 포함되어 있습니다. 허용: 한글/영문/숫자/공백";
+    private static final String BLANK_FILE_ERROR = "파일 경로가 필요합니다. 예) 가져오기?file=data.json, 내보내기?file=quotes.ndjson";
+    private static final String END_OF_INPUT_ERROR = "입력이 끝나 명령을 마칠 수 없습니다.";
+    private static final String READ_INPUT_ERROR = "입력을 읽을 수 없습니다.";
 
-    private final Scanner scanner;
+    private final BufferedReader reader;
     private final WiseOutput wiseOutput;
     private final WiseService wiseService;
+    private final boolean batchMode;
+    private final int batchSize;
+    private int lineNumber;
+    private int commandQuoteId;
 
     public WiseInput(WiseOutput wiseOutput) {
         this.wiseOutput = wiseOutput;
-        this.scanner = new Scanner(System.in);
+        this.reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), INPUT_BUFFER_SIZE);
+
+        WiseConfig config = WiseConfig.Load();
+        this.batchMode = config.BatchMode();
+        this.batchSize = Math.max(1, config.BatchSize());
 
         WiseRepository wiseRepository = new WiseRepository();
         this.wiseService = new WiseService(wiseRepository);
@@ -38,75 +77,335 @@ public class WiseInput {
 
     public void Start() {
         wiseOutput.AppTitle();
+        wiseOutput.LoadReport(wiseService.LoadReport());
+
+        try {
+            if (batchMode) {
+                RunBatch();
+                return;
+            }
 
-        while (true) {
-            String command = Input();
+            while (true) {
+                String command = Input();
 
-            switch (command) {
-                case FINISH_COMMAND:
+                if (command == null || !Execute(command)) {
                     return;
-                case REGISTER_COMMAND:
-                    Register();
-                    continue;
-                case LIST_COMMAND:
-                    List();
-                    continue;
-                case BUILD_COMMAND:
-                    Build();
+                }
+            }
+        } finally {
+            wiseService.Close();
+        }
+    }
+
+    public String Input() {
+        return Read(wiseOutput::CommandPrompt);
+    }
+
+    private void RunBatch() {
+        long started = System.nanoTime();
+        int commandCount = 0;
+        int errorCount = 0;
+
+        wiseService.BeginBatch();
+
+        try {
+            while (true) {
+                String command = Input();
+
+                if (command == null) {
+                    break;
+                }
+
+                if (command.isEmpty()) {
                     continue;
+                }
+
+                int line = lineNumber;
+                commandCount++;
+
+                try {
+                    if (!Execute(command)) {
+                        break;
+                    }
+                } catch (StorageException e) {
+                    wiseOutput.BatchError(line, e.getMessage());
+                    throw e;
+                } catch (IllegalArgumentException e) {
+                    errorCount++;
+                    wiseOutput.BatchError(line, e.getMessage());
+                }
+
+                if (commandCount % batchSize == 0) {
+                    wiseService.CommitBatch();
+                    wiseService.BeginBatch();
+                }
             }
+        } finally {
+            wiseService.CommitBatch();
+        }
+
+        wiseOutput.BatchSummary(commandCount, errorCount, System.nanoTime() - started);
+    }
+
+    private boolean Execute(String command) {
+        Metric metric = CommandMetric(command);
+
+        if (metric == null) {
+            return Dispatch(command);
+        }
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        int line = lineNumber;
+        commandQuoteId = 0;
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            boolean running = Dispatch(command);
+            failed = false;
+            return running;
+        } finally {
+            WiseMetrics.Record(metric, started, failed);
+            event.command = metric.Key();
+            event.input = command;
+            event.line = line;
+            event.id = commandQuoteId;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    private Metric CommandMetric(String command) {
+        switch (command) {
+            case FINISH_COMMAND:
+                return null;
+            case REGISTER_COMMAND:
+                return Metric.COMMAND_REGISTER;
+            case LIST_COMMAND:
+                return Metric.COMMAND_LIST;
+            case BUILD_COMMAND:
+                return Metric.COMMAND_BUILD;
+            case MEMORY_COMMAND:
+                return Metric.COMMAND_MEMORY;
+            case STATS_COMMAND:
+                return Metric.COMMAND_STATS;
+        }
+
+        if (command.startsWith(LIST_QUERY_PREFIX)) {
+            return Metric.COMMAND_LIST_QUERY;
+        } else if (command.startsWith(SEARCH_PREFIX)) {
+            return Metric.COMMAND_SEARCH;
+        } else if (command.startsWith(DELETE_PREFIX)) {
+            return Metric.COMMAND_DELETE;
+        } else if (command.startsWith(MODIFY_PREFIX)) {
+            return Metric.COMMAND_MODIFY;
+        } else if (command.startsWith(IMPORT_PREFIX)) {
+            return Metric.COMMAND_IMPORT;
+        } else if (command.startsWith(EXPORT_PREFIX)) {
+            return Metric.COMMAND_EXPORT;
+        }
+
+        return Metric.COMMAND_UNKNOWN;
+    }
+
+    private boolean Dispatch(String command) {
+        switch (command) {
+            case FINISH_COMMAND:
+                return false;
+            case REGISTER_COMMAND:
+                Register();
+                return true;
+            case LIST_COMMAND:
+                List();
+                return true;
+            case BUILD_COMMAND:
+                Build();
+                return true;
+            case MEMORY_COMMAND:
+                wiseOutput.MemoryUsage(wiseService.MemoryUsage());
+                return true;
+            case STATS_COMMAND:
+                wiseOutput.Metrics(wiseService.Metrics(), wiseService.Gauges());
+                return true;
+        }
+
+        if (command.startsWith(LIST_QUERY_PREFIX)) {
+            ListQuery(command);
+            return true;
+        } else if (command.startsWith(SEARCH_PREFIX)) {
+            Search(command);
+            return true;
+        } else if (command.startsWith(DELETE_PREFIX)) {
+            Delete(command);
+            return true;
+        } else if (command.startsWith(MODIFY_PREFIX)) {
+            Modify(command);
+            return true;
+        } else if (command.startsWith(IMPORT_PREFIX)) {
+            Import(command);
+            return true;
+        } else if (command.startsWith(EXPORT_PREFIX)) {
+            Export(command);
+            return true;
+        }
+
+        throw new IllegalArgumentException(ERROR_PREFIX + INVALID_COMMAND_ERROR);
+    }
+
+    private String Read(Runnable prompt) {
+        if (!batchMode) {
+            prompt.run();
+        }
+
+        try {
+            String line = reader.readLine();
 
-            if (command.startsWith(DELETE_PREFIX)) {
-                Delete(command);
-                continue;
-            } else if (command.startsWith(MODIFY_PREFIX)) {
-                Modify(command);
-                continue;
+            if (line == null) {
+                return null;
             }
 
-            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_COMMAND_ERROR);
+            lineNumber++;
+            return line.trim();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + READ_INPUT_ERROR);
         }
     }
 
-    public String Input() {
-        wiseOutput.CommandPrompt();
-        return scanner.nextLine().trim();
+    private String ReadField(Runnable prompt) {
+        String line = Read(prompt);
+
+        if (line == null) {
+            throw new IllegalArgumentException(ERROR_PREFIX + END_OF_INPUT_ERROR);
+        }
+
+        return line;
     }
 
     private void Register() {
-        wiseOutput.QuotePrompt();
-        String content = scanner.nextLine().trim();
+        String content = ReadField(wiseOutput::QuotePrompt);
+        String author = ReadField(wiseOutput::AuthorPrompt);
 
-        wiseOutput.AuthorPrompt();
-        String author = scanner.nextLine().trim();
-
-        ValidateContent(content);
-        ValidateAuthor(author);
+        QuoteValidator.ValidateContent(content);
+        QuoteValidator.ValidateAuthor(author);
 
         Integer id = wiseService.Register(author, content);
+        commandQuoteId = id;
         wiseOutput.Registered(id);
     }
 
     private void List() {
         wiseOutput.ListHeader();
 
-        WiseQuote[] quotes = wiseService.FindAllDesc();
+        int count = wiseService.ForEachChunkDesc(LIST_CHUNK_SIZE, wiseOutput::ListRows);
+
+        if (count == 0) {
+            wiseOutput.EmptyList();
+        }
+    }
+
+    private void ListQuery(String command) {
+        CommandQuery query = CommandQuery.Parse(command, LIST_PARAMS);
+        int page = query.GetPositiveInt(PAGE_PARAM, 1);
+        int size = query.GetPositiveInt(SIZE_PARAM, DEFAULT_PAGE_SIZE);
+
+        int from = query.GetPositiveInt(FROM_PARAM, 1);
+        int to = query.GetPositiveInt(TO_PARAM, Integer.MAX_VALUE);
+
+        if (query.Has(AUTHOR_PARAM)) {
+            ListByAuthor(query.Get(AUTHOR_PARAM), from, to, page, size);
+            return;
+        }
+
+        QuotePage result;
+
+        if (query.Has(FROM_PARAM) || query.Has(TO_PARAM)) {
+            result = wiseService.FindRange(from, to, page, size);
+        } else {
+            result = wiseService.FindPage(page, size);
+        }
+
+        ListPage(result);
+    }
+
+    private void ListByAuthor(String author, int from, int to, int page, int size) {
+        QuoteValidator.ValidateAuthor(author);
+
+        QuotePage result = wiseService.FindByAuthor(author, from, to, page, size);
+
+        wiseOutput.AuthorCount(author, wiseService.CountByAuthor(author));
+        ListPage(result);
+    }
+
+    private void Search(String command) {
+        CommandQuery query = CommandQuery.Parse(command, SEARCH_PARAMS);
+        String keyword = query.Get(KEYWORD_PARAM);
+        int page = query.GetPositiveInt(PAGE_PARAM, 1);
+        int size = query.GetPositiveInt(SIZE_PARAM, DEFAULT_PAGE_SIZE);
+
+        QuoteValidator.ValidateKeyword(keyword);
+
+        QuotePage result = wiseService.Search(keyword, page, size);
+        wiseOutput.ListHeader();
+
+        if (result.totalCount() == 0) {
+            wiseOutput.EmptySearch();
+            return;
+        }
+
+        wiseOutput.ListRows(result.quotes());
+        wiseOutput.PageFooter(result);
+    }
+
+    private void ListPage(QuotePage page) {
+        wiseOutput.ListHeader();
 
-        if (quotes.length == 0) {
+        if (page.totalCount() == 0) {
             wiseOutput.EmptyList();
             return;
         }
 
-        wiseOutput.ListRows(quotes);
+        wiseOutput.ListRows(page.quotes());
+        wiseOutput.PageFooter(page);
     }
 
     private void Build() {
-        wiseService.Build();
+        CompressionReport report = wiseService.Build();
         wiseOutput.RenewalJson();
+
+        if (report != null) {
+            wiseOutput.CompressedJson(report);
+        }
+    }
+
+    private void Import(String command) {
+        String file = ExtractFile(command);
+
+        wiseOutput.Imported(wiseService.Import(Paths.get(file), quote -> {
+            QuoteValidator.ValidateContent(quote.content());
+            QuoteValidator.ValidateAuthor(quote.author());
+        }));
+    }
+
+    private void Export(String command) {
+        String file = ExtractFile(command);
+
+        wiseOutput.Exported(file, wiseService.Export(Paths.get(file)));
+    }
+
+    private String ExtractFile(String command) {
+        String file = CommandQuery.Parse(command, FILE_PARAMS).Get(FILE_PARAM);
+
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_FILE_ERROR);
+        }
+
+        return file;
     }
 
     private void Delete(String command) {
         Integer id = ExtractId(command, DELETE_PREFIX);
+        commandQuoteId = id;
 
         boolean deleted = wiseService.DeleteById(id);
 
@@ -120,6 +419,7 @@ public class WiseInput {
 
     private void Modify(String command) {
         Integer id = ExtractId(command, MODIFY_PREFIX);
+        commandQuoteId = id;
 
         WiseQuote quote = wiseService.FindById(id);
 
@@ -129,15 +429,13 @@ public class WiseInput {
         }
 
         wiseOutput.ModifyExistingContent(quote.content());
-        wiseOutput.QuotePrompt();
-        String newContent = scanner.nextLine().trim();
+        String newContent = ReadField(wiseOutput::QuotePrompt);
 
         wiseOutput.ModifyExistingAuthor(quote.author());
-        wiseOutput.AuthorPrompt();
-        String newAuthor = scanner.nextLine().trim();
+        String newAuthor = ReadField(wiseOutput::AuthorPrompt);
 
-        ValidateContent(newContent);
-        ValidateAuthor(newAuthor);
+        QuoteValidator.ValidateContent(newContent);
+        QuoteValidator.ValidateAuthor(newAuthor);
 
         wiseService.Modify(id, newAuthor, newContent);
     }
@@ -157,61 +455,4 @@ public class WiseInput {
             throw new IllegalArgumentException(ERROR_PREFIX + INVALID_ID_ERROR);
         }
     }
-
-    private void ValidateContent(String content) {
-        if (IsBlank(content)) {
-            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_CONTENT_ERROR);
-        }
-
-        if (!IsAllowedText(content)) {
-            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_CONTENT_CHAR_ERROR);
-        }
-    }
-
-    private void ValidateAuthor(String author) {
-        if (IsBlank(author)) {
-            throw new IllegalArgumentException(ERROR_PREFIX + BLANK_AUTHOR_ERROR);
-        }
-
-        if (!IsAllowedText(author)) {
-            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_AUTHOR_CHAR_ERROR);
-        }
-    }
-
-    private boolean IsBlank(String value) {
-        return value == null || value.trim().isEmpty();
-    }
-
-    private boolean IsAllowedText(String value) {
-        int i = 0;
-
-        while (i < value.length()) {
-            char c = value.charAt(i);
-
-            if (IsKorean(c) || IsEnglish(c) || IsDigit(c) || IsSpace(c)) {
-                i++;
-                continue;
-            }
-
-            return false;
-        }
-
-        return true;
-    }
-
-    private boolean IsKorean(char c) {
-        return c >= '가' && c <= '힣';
-    }
-
-    private boolean IsEnglish(char c) {
-        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
-    }
-
-    private boolean IsDigit(char c) {
-        return c >= '0' && c <= '9';
-    }
-
-    private boolean IsSpace(char c) {
-        return c == ' ';
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package wiseboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wiseboard.Command")
+@Label("Command")
+@Category({"Wiseboard", "Command"})
+public class CommandEvent extends Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Input")
+    public String input;
+
+    @Label("Line")
+    public int line;
+
+    @Label("Quote Id")
+    public int id;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,20 @@
+package wiseboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wiseboard.DataJsonBuild")
+@Label("data.json Build")
+@Category({"Wiseboard", "Repository"})
+public class DataJsonBuildEvent extends Event {
+
+    @Label("Quote Count")
+    public int quoteCount;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
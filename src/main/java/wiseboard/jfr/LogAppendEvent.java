@@ -0,0 +1,23 @@
+package wiseboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wiseboard.LogAppend")
+@Label("Log Append")
+@Category({"Wiseboard", "Repository"})
+public class LogAppendEvent extends Event {
+
+    @Label("Quote Id")
+    public int id;
+
+    @Label("Record Type")
+    public int type;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
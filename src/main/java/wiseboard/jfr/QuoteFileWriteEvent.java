@@ -0,0 +1,20 @@
+package wiseboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wiseboard.QuoteFileWrite")
+@Label("Quote File Write")
+@Category({"Wiseboard", "Repository"})
+public class QuoteFileWriteEvent extends Event {
+
+    @Label("Quote Id")
+    public int id;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
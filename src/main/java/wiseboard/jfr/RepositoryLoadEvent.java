@@ -0,0 +1,21 @@
+package wiseboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("wiseboard.RepositoryLoad")
+@Label("Repository Load")
+@Category({"Wiseboard", "Repository"})
+public class RepositoryLoadEvent extends Event {
+
+    @Label("Quote Count")
+    public int quoteCount;
+
+    @Label("File Count")
+    public int fileCount;
+
+    @Label("From Snapshot")
+    public boolean fromSnapshot;
+}
@@ -0,0 +1,46 @@
+package wiseboard.jfr;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+public final class WiseRecording {
+
+    private static final String START_RECORDING_ERROR = "JFR 기록을 시작할 수 없습니다: ";
+    private static final String CONFIGURATION_NAME = "profile";
+    private static final String RECORDING_NAME = "wiseboard";
+
+    private WiseRecording() {
+    }
+
+    public static Recording Start(String file) {
+        if (file.isEmpty()) {
+            return null;
+        }
+
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(CONFIGURATION_NAME));
+            recording.setName(RECORDING_NAME);
+            recording.setDestination(Paths.get(file));
+            recording.setDumpOnExit(true);
+            recording.start();
+
+            return recording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + START_RECORDING_ERROR + file);
+        }
+    }
+
+    public static void Stop(Recording recording) {
+        if (recording == null) {
+            return;
+        }
+
+        recording.stop();
+        recording.close();
+    }
+}
@@ -0,0 +1,35 @@
+package wiseboard.metrics;
+
+public enum Gauge {
+    WRITE_BEHIND_DEPTH("writeBehind.depth", "쓰기 대기열"),
+    WRITE_BEHIND_PEAK("writeBehind.peak", "쓰기 대기열 최대"),
+    WRITE_BEHIND_COALESCED("writeBehind.coalesced", "합쳐진 쓰기"),
+    CACHE_HITS("cache.hits", "캐시 적중"),
+    CACHE_MISSES("cache.misses", "캐시 실패"),
+    CACHE_EVICTIONS("cache.evictions", "캐시 축출"),
+    CACHE_ENTRIES("cache.entries", "캐시 명언 수"),
+    CACHE_BYTES("cache.bytes", "캐시 바이트"),
+    LAYOUT_MIGRATED("layout.migrated", "샤드로 옮긴 파일"),
+    LAYOUT_UNMIGRATED("layout.unmigrated", "샤드로 옮길 파일"),
+    LAYOUT_FAILED("layout.failed", "샤드로 옮기지 못한 파일"),
+    COMPRESSION_RAW_BYTES("compression.rawBytes", "압축 전 바이트"),
+    COMPRESSION_STORED_BYTES("compression.storedBytes", "압축 후 바이트"),
+    COMPRESSION_RATIO("compression.ratioPercent", "압축 후 크기 (%)"),
+    COMPRESSION_CPU_MILLIS("compression.cpuMillis", "압축 CPU (ms)");
+
+    private final String key;
+    private final String label;
+
+    Gauge(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String Key() {
+        return key;
+    }
+
+    public String Label() {
+        return label;
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.metrics;
+
+public record GaugeSnapshot(Gauge gauge, long value) {
+}
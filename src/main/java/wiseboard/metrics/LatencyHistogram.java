@@ -0,0 +1,111 @@
+package wiseboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalNanos;
+    private final LongAdder failures;
+    private final LongAccumulator maxNanos;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalNanos = new LongAdder();
+        this.failures = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    public void Record(long nanos, boolean failed) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(IndexOf(value));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public MetricSnapshot Snapshot(Metric metric) {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        int i = 0;
+
+        while (i < BUCKET_COUNT) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+            i++;
+        }
+
+        long max = maxNanos.get();
+
+        return new MetricSnapshot(metric, count, failures.sum(), totalNanos.sum(),
+                Percentile(copy, count, 0.5, max), Percentile(copy, count, 0.99, max),
+                Percentile(copy, count, 0.999, max), max);
+    }
+
+    public void Reset() {
+        int i = 0;
+
+        while (i < BUCKET_COUNT) {
+            counts.set(i, 0);
+            i++;
+        }
+
+        totalNanos.reset();
+        failures.reset();
+        maxNanos.reset();
+    }
+
+    static int IndexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    static long UpperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKET_COUNT;
+        long lower = (long) (SUB_BUCKET_COUNT + sub) << (exponent - SUB_BUCKET_BITS);
+
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private long Percentile(long[] copy, long count, double quantile, long max) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(count * quantile));
+        long seen = 0;
+        int i = 0;
+
+        while (i < copy.length) {
+            seen += copy[i];
+
+            if (seen >= target) {
+                return Math.min(UpperBoundOf(i), max);
+            }
+
+            i++;
+        }
+
+        return max;
+    }
+}
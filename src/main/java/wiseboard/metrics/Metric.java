@@ -0,0 +1,42 @@
+package wiseboard.metrics;
+
+public enum Metric {
+    COMMAND_REGISTER("command.register", "등록"),
+    COMMAND_LIST("command.list", "목록"),
+    COMMAND_LIST_QUERY("command.listQuery", "목록?"),
+    COMMAND_SEARCH("command.search", "검색"),
+    COMMAND_DELETE("command.delete", "삭제"),
+    COMMAND_MODIFY("command.modify", "수정"),
+    COMMAND_BUILD("command.build", "빌드"),
+    COMMAND_MEMORY("command.memory", "메모리"),
+    COMMAND_IMPORT("command.import", "가져오기"),
+    COMMAND_EXPORT("command.export", "내보내기"),
+    COMMAND_STATS("command.stats", "통계"),
+    COMMAND_UNKNOWN("command.unknown", "알 수 없는 명령"),
+    REPOSITORY_LOAD("repository.load", "저장소 불러오기"),
+    QUOTE_FILE_READ("io.quoteFileRead", "명언 파일 읽기"),
+    QUOTE_FILE_WRITE("io.quoteFileWrite", "명언 파일 쓰기"),
+    QUOTE_FILE_DELETE("io.quoteFileDelete", "명언 파일 삭제"),
+    LAST_ID_WRITE("io.lastIdWrite", "lastId 쓰기"),
+    LOG_APPEND("io.logAppend", "로그 덧붙이기"),
+    SYNC("io.sync", "fsync"),
+    DATA_JSON_BUILD("io.dataJsonBuild", "data.json 빌드"),
+    COMPRESS("io.compress", "압축"),
+    DECOMPRESS("io.decompress", "압축 풀기");
+
+    private final String key;
+    private final String label;
+
+    Metric(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String Key() {
+        return key;
+    }
+
+    public String Label() {
+        return label;
+    }
+}
@@ -0,0 +1,5 @@
+package wiseboard.metrics;
+
+public record MetricSnapshot(Metric metric, long count, long failures, long totalNanos,
+                             long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+}
@@ -0,0 +1,194 @@
+package wiseboard.metrics;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import wiseboard.repository.JsonWriter;
+
+public final class WiseMetrics {
+
+    private static final String DUMP_ERROR = "통계 파일 저장에 실패했습니다: ";
+
+    private static final byte[] DUMP_START = Ascii("{\"metrics\":[");
+    private static final byte[] DUMP_GAUGES = Ascii("\n],\"gauges\":[");
+    private static final byte[] DUMP_END = Ascii("\n]}\n");
+    private static final byte[] ENTRY_KEY = Ascii("\n  {\"name\":");
+    private static final byte[] ENTRY_COUNT = Ascii(",\"count\":");
+    private static final byte[] ENTRY_FAILURES = Ascii(",\"failures\":");
+    private static final byte[] ENTRY_TOTAL = Ascii(",\"totalNanos\":");
+    private static final byte[] ENTRY_P50 = Ascii(",\"p50Nanos\":");
+    private static final byte[] ENTRY_P99 = Ascii(",\"p99Nanos\":");
+    private static final byte[] ENTRY_P999 = Ascii(",\"p999Nanos\":");
+    private static final byte[] ENTRY_MAX = Ascii(",\"maxNanos\":");
+    private static final byte[] ENTRY_VALUE = Ascii(",\"value\":");
+    private static final byte[] ENTRY_END = Ascii("}");
+    private static final byte[] COMMA = Ascii(",");
+
+    private static final Metric[] METRICS = Metric.values();
+    private static final LatencyHistogram[] HISTOGRAMS = NewHistograms();
+    private static final Gauge[] GAUGES = Gauge.values();
+    private static final LongSupplier[] GAUGE_SOURCES = new LongSupplier[GAUGES.length];
+
+    private static boolean enabled;
+    private static Path dumpFile;
+
+    private WiseMetrics() {
+    }
+
+    public static void Configure(boolean enable, Path file) {
+        int i = 0;
+
+        while (i < HISTOGRAMS.length) {
+            HISTOGRAMS[i].Reset();
+            i++;
+        }
+
+        i = 0;
+
+        while (i < GAUGE_SOURCES.length) {
+            GAUGE_SOURCES[i] = null;
+            i++;
+        }
+
+        dumpFile = file;
+        enabled = enable;
+    }
+
+    public static boolean Enabled() {
+        return enabled;
+    }
+
+    public static long Start() {
+        if (!enabled) {
+            return 0;
+        }
+
+        return System.nanoTime();
+    }
+
+    public static void Record(Metric metric, long started) {
+        Record(metric, started, false);
+    }
+
+    public static void Record(Metric metric, long started, boolean failed) {
+        if (started == 0) {
+            return;
+        }
+
+        HISTOGRAMS[metric.ordinal()].Record(System.nanoTime() - started, failed);
+    }
+
+    public static void Register(Gauge gauge, LongSupplier source) {
+        GAUGE_SOURCES[gauge.ordinal()] = source;
+    }
+
+    public static GaugeSnapshot[] Gauges() {
+        List<GaugeSnapshot> gauges = new ArrayList<>();
+        int i = 0;
+
+        while (i < GAUGES.length) {
+            LongSupplier source = GAUGE_SOURCES[i];
+
+            if (source != null) {
+                gauges.add(new GaugeSnapshot(GAUGES[i], source.getAsLong()));
+            }
+
+            i++;
+        }
+
+        return gauges.toArray(new GaugeSnapshot[0]);
+    }
+
+    public static MetricSnapshot[] Snapshot() {
+        List<MetricSnapshot> snapshots = new ArrayList<>();
+        int i = 0;
+
+        while (i < METRICS.length) {
+            MetricSnapshot snapshot = HISTOGRAMS[i].Snapshot(METRICS[i]);
+
+            if (snapshot.count() > 0) {
+                snapshots.add(snapshot);
+            }
+
+            i++;
+        }
+
+        return snapshots.toArray(new MetricSnapshot[0]);
+    }
+
+    public static Path Dump() {
+        if (!enabled || dumpFile == null) {
+            return null;
+        }
+
+        MetricSnapshot[] snapshots = Snapshot();
+        JsonWriter writer = new JsonWriter();
+        writer.Raw(DUMP_START);
+        int i = 0;
+
+        while (i < snapshots.length) {
+            if (i > 0) {
+                writer.Raw(COMMA);
+            }
+
+            MetricSnapshot snapshot = snapshots[i];
+            writer.Raw(ENTRY_KEY).String(snapshot.metric().Key())
+                    .Raw(ENTRY_COUNT).Long(snapshot.count())
+                    .Raw(ENTRY_FAILURES).Long(snapshot.failures())
+                    .Raw(ENTRY_TOTAL).Long(snapshot.totalNanos())
+                    .Raw(ENTRY_P50).Long(snapshot.p50Nanos())
+                    .Raw(ENTRY_P99).Long(snapshot.p99Nanos())
+                    .Raw(ENTRY_P999).Long(snapshot.p999Nanos())
+                    .Raw(ENTRY_MAX).Long(snapshot.maxNanos())
+                    .Raw(ENTRY_END);
+            i++;
+        }
+
+        writer.Raw(DUMP_GAUGES);
+        GaugeSnapshot[] gauges = Gauges();
+        i = 0;
+
+        while (i < gauges.length) {
+            if (i > 0) {
+                writer.Raw(COMMA);
+            }
+
+            writer.Raw(ENTRY_KEY).String(gauges[i].gauge().Key())
+                    .Raw(ENTRY_VALUE).Long(gauges[i].value())
+                    .Raw(ENTRY_END);
+            i++;
+        }
+
+        writer.Raw(DUMP_END);
+
+        try {
+            Files.write(dumpFile, writer.ToByteArray());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + DUMP_ERROR + dumpFile);
+        }
+
+        return dumpFile;
+    }
+
+    private static LatencyHistogram[] NewHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[METRICS.length];
+        int i = 0;
+
+        while (i < histograms.length) {
+            histograms[i] = new LatencyHistogram();
+            i++;
+        }
+
+        return histograms;
+    }
+
+    private static byte[] Ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
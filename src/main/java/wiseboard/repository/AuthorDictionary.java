@@ -0,0 +1,100 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+class AuthorDictionary {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAP_ENTRY_BYTES = 32;
+
+    private final Map<String, Integer> codes;
+    private String[] names;
+    private int[] refCounts;
+    private int[] freeCodes;
+    private int freeCount;
+    private int used;
+
+    AuthorDictionary() {
+        this.codes = new HashMap<>();
+        this.names = new String[INITIAL_CAPACITY];
+        this.refCounts = new int[INITIAL_CAPACITY];
+        this.freeCodes = new int[INITIAL_CAPACITY];
+    }
+
+    int Acquire(String author) {
+        Integer code = codes.get(author);
+
+        if (code == null) {
+            code = Allocate();
+            names[code] = author;
+            codes.put(author, code);
+        }
+
+        refCounts[code]++;
+        return code;
+    }
+
+    void Release(int code) {
+        refCounts[code]--;
+
+        if (refCounts[code] > 0) {
+            return;
+        }
+
+        codes.remove(names[code]);
+        names[code] = null;
+        freeCodes[freeCount] = code;
+        freeCount++;
+    }
+
+    String NameOf(int code) {
+        return names[code];
+    }
+
+    int Size() {
+        return codes.size();
+    }
+
+    void Clear() {
+        codes.clear();
+        Arrays.fill(names, 0, used, null);
+        Arrays.fill(refCounts, 0, used, 0);
+        freeCount = 0;
+        used = 0;
+    }
+
+    long HeapBytes() {
+        long bytes = QuoteFootprint.ArrayBytes((long) names.length * QuoteFootprint.REFERENCE_BYTES)
+                + 2 * QuoteFootprint.ArrayBytes((long) refCounts.length * Integer.BYTES);
+        int code = 0;
+
+        while (code < used) {
+            if (names[code] != null) {
+                bytes += QuoteFootprint.StringBytes(names[code]) + MAP_ENTRY_BYTES;
+            }
+
+            code++;
+        }
+
+        return bytes;
+    }
+
+    private int Allocate() {
+        if (freeCount > 0) {
+            freeCount--;
+            return freeCodes[freeCount];
+        }
+
+        if (used == names.length) {
+            int capacity = used << 1;
+            names = Arrays.copyOf(names, capacity);
+            refCounts = Arrays.copyOf(refCounts, capacity);
+            freeCodes = Arrays.copyOf(freeCodes, capacity);
+        }
+
+        used++;
+        return used - 1;
+    }
+}
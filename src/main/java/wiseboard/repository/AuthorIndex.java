@@ -0,0 +1,80 @@
+package wiseboard.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import wiseboard.domain.WiseQuote;
+
+class AuthorIndex {
+
+    private final Map<String, SortedIdSet> authors;
+
+    AuthorIndex() {
+        this.authors = new ConcurrentHashMap<>();
+    }
+
+    void Add(WiseQuote quote) {
+        authors.computeIfAbsent(quote.author(), key -> new SortedIdSet()).Add(quote.id());
+    }
+
+    void Remove(WiseQuote quote) {
+        SortedIdSet ids = authors.get(quote.author());
+
+        if (ids == null) {
+            return;
+        }
+
+        ids.Remove(quote.id());
+
+        if (ids.Size() == 0) {
+            authors.remove(quote.author());
+        }
+    }
+
+    void Replace(WiseQuote previous, WiseQuote quote) {
+        if (previous.author().equals(quote.author())) {
+            return;
+        }
+
+        Remove(previous);
+        Add(quote);
+    }
+
+    int Count(String author) {
+        SortedIdSet ids = authors.get(author);
+
+        if (ids == null) {
+            return 0;
+        }
+
+        return ids.Size();
+    }
+
+    IdPage PageDesc(String author, int fromId, int toId, int page, int size) {
+        SortedIdSet ids = authors.get(author);
+
+        if (ids == null) {
+            return new IdPage(new int[0], 0);
+        }
+
+        int from = ids.LowerBound(fromId);
+        int to = toId == Integer.MAX_VALUE ? ids.Size() : ids.LowerBound(toId + 1);
+        int total = Math.max(0, to - from);
+        long skip = (long) (page - 1) * size;
+
+        if (skip >= total) {
+            return new IdPage(new int[0], total);
+        }
+
+        int[] result = new int[(int) Math.min(size, total - skip)];
+        int position = to - 1 - (int) skip;
+        int i = 0;
+
+        while (i < result.length) {
+            result[i] = ids.Get(position);
+            position--;
+            i++;
+        }
+
+        return new IdPage(result, total);
+    }
+}
@@ -0,0 +1,139 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import wiseboard.metrics.Gauge;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+class BlockCompressor {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int level;
+    private final AtomicLong rawBytes;
+    private final AtomicLong compressedBytes;
+    private final AtomicLong cpuNanos;
+
+    BlockCompressor(int level) {
+        this.level = Math.min(level, Deflater.BEST_COMPRESSION);
+        this.rawBytes = new AtomicLong();
+        this.compressedBytes = new AtomicLong();
+        this.cpuNanos = new AtomicLong();
+
+        WiseMetrics.Register(Gauge.COMPRESSION_RAW_BYTES, rawBytes::get);
+        WiseMetrics.Register(Gauge.COMPRESSION_STORED_BYTES, compressedBytes::get);
+        WiseMetrics.Register(Gauge.COMPRESSION_RATIO, () -> Report().RatioPercent());
+        WiseMetrics.Register(Gauge.COMPRESSION_CPU_MILLIS, () -> cpuNanos.get() / 1_000_000);
+    }
+
+    ByteBuffer Block(byte[] raw) {
+        long started = WiseMetrics.Start();
+        long cpuStarted = CpuTime();
+        boolean failed = true;
+        Deflater deflater = new Deflater(level, true);
+
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            byte[] compressed = new byte[raw.length + (raw.length >> 4) + 64];
+            int size = 0;
+
+            while (!deflater.finished()) {
+                if (size == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length << 1);
+                }
+
+                size += deflater.deflate(compressed, size, compressed.length - size);
+            }
+
+            ByteBuffer block = LogBlock.Encode(compressed, size, raw.length);
+            Account(raw.length, block.remaining(), cpuStarted);
+            failed = false;
+
+            return block;
+        } finally {
+            deflater.end();
+            WiseMetrics.Record(Metric.COMPRESS, started, failed);
+        }
+    }
+
+    CompressionReport Gzip(Path source, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long started = WiseMetrics.Start();
+        long cpuStarted = CpuTime();
+        boolean failed = true;
+
+        try {
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new LeveledGzipStream(Files.newOutputStream(temp), level)) {
+                in.transferTo(out);
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long raw = Files.size(source);
+            long compressed = Files.size(target);
+            long cpuSpent = Account(raw, compressed, cpuStarted);
+            failed = false;
+
+            return new CompressionReport(raw, compressed, cpuSpent / 1_000_000);
+        } catch (IOException e) {
+            DeleteQuietly(temp);
+            throw e;
+        } finally {
+            WiseMetrics.Record(Metric.COMPRESS, started, failed);
+        }
+    }
+
+    CompressionReport Report() {
+        return new CompressionReport(rawBytes.get(), compressedBytes.get(), cpuNanos.get() / 1_000_000);
+    }
+
+    private long Account(long raw, long compressed, long cpuStarted) {
+        long cpuSpent = Math.max(0, CpuTime() - cpuStarted);
+        rawBytes.addAndGet(raw);
+        compressedBytes.addAndGet(compressed);
+        cpuNanos.addAndGet(cpuSpent);
+
+        return cpuSpent;
+    }
+
+    private void DeleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static long CpuTime() {
+        if (THREADS.isCurrentThreadCpuTimeSupported()) {
+            return THREADS.getCurrentThreadCpuTime();
+        }
+
+        return System.nanoTime();
+    }
+
+    private static class LeveledGzipStream extends GZIPOutputStream {
+
+        LeveledGzipStream(OutputStream out, int level) throws IOException {
+            super(out, STREAM_BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import wiseboard.domain.WiseQuote;
+import wiseboard.metrics.Gauge;
+import wiseboard.metrics.WiseMetrics;
+
+class CachedQuoteSlots implements QuoteSlots {
+
+    private static final int EMPTY = 0;
+
+    private final QuoteCache cache;
+    private final IntFunction<WiseQuote> loader;
+    private final Map<Integer, WiseQuote> unwritten;
+    private int[] ids;
+    private volatile long version;
+
+    CachedQuoteSlots(long capacityBytes, IntFunction<WiseQuote> loader) {
+        this.cache = new QuoteCache(capacityBytes);
+        this.loader = loader;
+        this.unwritten = new HashMap<>();
+        this.ids = new int[0];
+
+        WiseMetrics.Register(Gauge.CACHE_HITS, cache::Hits);
+        WiseMetrics.Register(Gauge.CACHE_MISSES, cache::Misses);
+        WiseMetrics.Register(Gauge.CACHE_EVICTIONS, cache::Evictions);
+        WiseMetrics.Register(Gauge.CACHE_ENTRIES, cache::Size);
+        WiseMetrics.Register(Gauge.CACHE_BYTES, cache::Bytes);
+    }
+
+    @Override
+    public WiseQuote Get(int slot, int id) {
+        if (ids[slot] == EMPTY) {
+            return null;
+        }
+
+        WiseQuote quote = cache.Get(id);
+
+        if (quote != null) {
+            return quote;
+        }
+
+        long seen = version;
+
+        synchronized (unwritten) {
+            quote = unwritten.get(id);
+        }
+
+        if (quote != null) {
+            return quote;
+        }
+
+        quote = loader.apply(id);
+
+        if (quote != null && version == seen) {
+            cache.Put(quote);
+        }
+
+        return quote;
+    }
+
+    @Override
+    public boolean IsLive(int slot) {
+        return ids[slot] != EMPTY;
+    }
+
+    @Override
+    public void Set(int slot, WiseQuote quote) {
+        version++;
+        ids[slot] = quote.id();
+
+        synchronized (unwritten) {
+            unwritten.put(quote.id(), quote);
+        }
+
+        cache.Put(quote);
+    }
+
+    @Override
+    public void Clear(int slot) {
+        if (ids[slot] == EMPTY) {
+            return;
+        }
+
+        version++;
+        cache.Remove(ids[slot]);
+
+        synchronized (unwritten) {
+            unwritten.remove(ids[slot]);
+        }
+
+        ids[slot] = EMPTY;
+    }
+
+    @Override
+    public void Move(int from, int to) {
+        ids[to] = ids[from];
+    }
+
+    @Override
+    public void ShiftRight(int from, int length) {
+        System.arraycopy(ids, from, ids, from + 1, length - from);
+        ids[from] = EMPTY;
+    }
+
+    @Override
+    public void ClearAll(int length) {
+        version++;
+        Arrays.fill(ids, 0, length, EMPTY);
+        cache.Clear();
+
+        synchronized (unwritten) {
+            unwritten.clear();
+        }
+    }
+
+    @Override
+    public void Grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+    }
+
+    @Override
+    public void Compacted(int length) {
+        Arrays.fill(ids, length, ids.length, EMPTY);
+    }
+
+    @Override
+    public long HeapBytes(int length) {
+        return QuoteFootprint.ArrayBytes((long) ids.length * Integer.BYTES) + cache.Bytes();
+    }
+
+    @Override
+    public long OffHeapBytes() {
+        return 0;
+    }
+
+    @Override
+    public void Close() {
+        cache.Clear();
+    }
+
+    void Reference(int slot, int id) {
+        ids[slot] = id;
+    }
+
+    void Persisted(WiseQuote quote) {
+        synchronized (unwritten) {
+            unwritten.remove(quote.id(), quote);
+        }
+    }
+
+    QuoteCache Cache() {
+        return cache;
+    }
+}
@@ -0,0 +1,135 @@
+package wiseboard.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import wiseboard.domain.WiseQuote;
+
+class CompactQuoteSlots implements QuoteSlots {
+
+    private static final int EMPTY = -1;
+
+    private final AuthorDictionary authors;
+    private final boolean encodeContent;
+    private int[] authorCodes;
+    private Object[] contents;
+
+    CompactQuoteSlots(boolean encodeContent) {
+        this.authors = new AuthorDictionary();
+        this.encodeContent = encodeContent;
+        this.authorCodes = new int[0];
+        this.contents = new Object[0];
+    }
+
+    @Override
+    public WiseQuote Get(int slot, int id) {
+        if (authorCodes[slot] == EMPTY) {
+            return null;
+        }
+
+        return new WiseQuote(id, authors.NameOf(authorCodes[slot]), ContentOf(slot));
+    }
+
+    @Override
+    public boolean IsLive(int slot) {
+        return authorCodes[slot] != EMPTY;
+    }
+
+    @Override
+    public void Set(int slot, WiseQuote quote) {
+        int code = authors.Acquire(quote.author());
+
+        if (authorCodes[slot] != EMPTY) {
+            authors.Release(authorCodes[slot]);
+        }
+
+        authorCodes[slot] = code;
+        contents[slot] = encodeContent ? quote.content().getBytes(StandardCharsets.UTF_8) : quote.content();
+    }
+
+    @Override
+    public void Clear(int slot) {
+        if (authorCodes[slot] == EMPTY) {
+            return;
+        }
+
+        authors.Release(authorCodes[slot]);
+        authorCodes[slot] = EMPTY;
+        contents[slot] = null;
+    }
+
+    @Override
+    public void Move(int from, int to) {
+        authorCodes[to] = authorCodes[from];
+        contents[to] = contents[from];
+    }
+
+    @Override
+    public void ShiftRight(int from, int length) {
+        System.arraycopy(authorCodes, from, authorCodes, from + 1, length - from);
+        System.arraycopy(contents, from, contents, from + 1, length - from);
+        authorCodes[from] = EMPTY;
+        contents[from] = null;
+    }
+
+    @Override
+    public void ClearAll(int length) {
+        Arrays.fill(authorCodes, EMPTY);
+        Arrays.fill(contents, null);
+        authors.Clear();
+    }
+
+    @Override
+    public void Grow(int capacity) {
+        int previous = authorCodes.length;
+        authorCodes = Arrays.copyOf(authorCodes, capacity);
+        contents = Arrays.copyOf(contents, capacity);
+        Arrays.fill(authorCodes, previous, capacity, EMPTY);
+    }
+
+    @Override
+    public void Compacted(int length) {
+        Arrays.fill(authorCodes, length, authorCodes.length, EMPTY);
+        Arrays.fill(contents, length, contents.length, null);
+    }
+
+    @Override
+    public long HeapBytes(int length) {
+        long bytes = QuoteFootprint.ArrayBytes((long) authorCodes.length * Integer.BYTES)
+                + QuoteFootprint.ArrayBytes((long) contents.length * QuoteFootprint.REFERENCE_BYTES)
+                + authors.HeapBytes();
+        int i = 0;
+
+        while (i < length) {
+            if (contents[i] instanceof byte[] encoded) {
+                bytes += QuoteFootprint.ArrayBytes(encoded.length);
+            } else if (contents[i] instanceof String text) {
+                bytes += QuoteFootprint.StringBytes(text);
+            }
+
+            i++;
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public long OffHeapBytes() {
+        return 0;
+    }
+
+    @Override
+    public void Close() {
+    }
+
+    int AuthorCount() {
+        return authors.Size();
+    }
+
+    private String ContentOf(int slot) {
+        if (contents[slot] instanceof byte[] encoded) {
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+
+        return (String) contents[slot];
+    }
+}
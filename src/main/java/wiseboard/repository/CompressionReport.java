@@ -0,0 +1,8 @@
+package wiseboard.repository;
+
+public record CompressionReport(long rawBytes, long compressedBytes, long cpuMillis) {
+
+    public long RatioPercent() {
+        return rawBytes == 0 ? 0 : compressedBytes * 100 / rawBytes;
+    }
+}
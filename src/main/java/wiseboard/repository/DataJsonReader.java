@@ -0,0 +1,43 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import wiseboard.domain.WiseQuote;
+
+class DataJsonReader {
+
+    private static final String READ_JSON_ERROR = "Json 파일 읽기에 실패했습니다: ";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private DataJsonReader() {
+    }
+
+    static void Read(Path file, Consumer<WiseQuote> action) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            JsonReader reader = new JsonReader(channel, ByteBuffer.allocateDirect(BUFFER_SIZE));
+            QuoteJson.ReadArray(reader, action);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_JSON_ERROR + file.getFileName());
+        }
+    }
+
+    static void ReadImport(Path file, boolean lines, Consumer<WiseQuote> action) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            JsonReader reader = new JsonReader(channel, ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+            if (lines) {
+                QuoteJson.ReadLines(reader, action);
+            } else {
+                QuoteJson.ReadArray(reader, false, action);
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_JSON_ERROR + file.getFileName());
+        }
+    }
+}
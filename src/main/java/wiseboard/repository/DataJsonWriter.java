@@ -0,0 +1,218 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import wiseboard.domain.WiseQuote;
+import wiseboard.jfr.DataJsonBuildEvent;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+class DataJsonWriter {
+
+    private static final String RENEWAL_JSON_ERROR = "data.json 파일 갱신에 실패했습니다.";
+    private static final String COMPRESS_JSON_ERROR = "data.json 파일 압축에 실패했습니다.";
+
+    private static final byte[] ARRAY_START = "[\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Path file;
+    private final Path tempFile;
+    private final IntIntMap slots;
+    private final ByteBuffer buffer;
+    private final boolean cacheFragments;
+    private final BlockCompressor compressor;
+    private final Path compressedFile;
+    private final ReentrantLock lock;
+
+    private WiseQuote[] sources;
+    private byte[][] fragments;
+    private int[] generations;
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+    private int generation;
+    private int renderedCount;
+
+    DataJsonWriter(Path file) {
+        this(file, true);
+    }
+
+    DataJsonWriter(Path file, boolean cacheFragments) {
+        this(file, cacheFragments, null);
+    }
+
+    DataJsonWriter(Path file, boolean cacheFragments, BlockCompressor compressor) {
+        this.file = file;
+        this.cacheFragments = cacheFragments;
+        this.compressor = compressor;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.compressedFile = file.resolveSibling(file.getFileName() + ".gz");
+        this.lock = new ReentrantLock();
+        this.slots = new IntIntMap();
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.sources = new WiseQuote[INITIAL_CAPACITY];
+        this.fragments = new byte[INITIAL_CAPACITY][];
+        this.generations = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    void Write(QuoteIndex quotes) {
+        DataJsonBuildEvent event = new DataJsonBuildEvent();
+        event.begin();
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+        lock.lock();
+
+        try {
+            WriteFile(quotes, event);
+            failed = false;
+        } finally {
+            lock.unlock();
+            WiseMetrics.Record(Metric.DATA_JSON_BUILD, started, failed);
+            event.commit();
+        }
+    }
+
+    CompressionReport Compress() {
+        if (compressor == null) {
+            return null;
+        }
+
+        lock.lock();
+
+        try {
+            return compressor.Gzip(file, compressedFile);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + COMPRESS_JSON_ERROR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void WriteFile(QuoteIndex quotes, DataJsonBuildEvent event) {
+        generation++;
+        renderedCount = 0;
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            JsonWriter writer = new JsonWriter(channel, buffer);
+            writer.Raw(ARRAY_START);
+
+            int[] written = {0};
+
+            quotes.ForEachAsc(quote -> {
+                if (written[0] > 0) {
+                    writer.Raw(SEPARATOR);
+                }
+
+                WriteEntry(writer, quote);
+                written[0]++;
+            });
+
+            if (written[0] > 0) {
+                writer.Raw(NEW_LINE);
+            }
+
+            writer.Raw(ARRAY_END);
+            writer.Flush();
+
+            event.quoteCount = written[0];
+            event.bytes = channel.position();
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + RENEWAL_JSON_ERROR);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + RENEWAL_JSON_ERROR);
+        }
+
+        Evict();
+    }
+
+    int RenderedCount() {
+        return renderedCount;
+    }
+
+    private void WriteEntry(JsonWriter writer, WiseQuote quote) {
+        if (!cacheFragments) {
+            QuoteJson.WriteEntry(writer, quote);
+            renderedCount++;
+            return;
+        }
+
+        writer.Raw(Fragment(quote));
+    }
+
+    private byte[] Fragment(WiseQuote quote) {
+        int id = quote.id();
+        int slot = slots.Get(id);
+
+        if (slot < 0) {
+            slot = Allocate();
+            slots.Put(id, slot);
+        }
+
+        generations[slot] = generation;
+
+        if (sources[slot] == quote) {
+            return fragments[slot];
+        }
+
+        sources[slot] = quote;
+        fragments[slot] = QuoteJson.EntryBytes(quote);
+        renderedCount++;
+
+        return fragments[slot];
+    }
+
+    private void Evict() {
+        int slot = 0;
+
+        while (slot < used) {
+            if (sources[slot] != null && generations[slot] != generation) {
+                slots.Remove(sources[slot].id());
+                sources[slot] = null;
+                fragments[slot] = null;
+                freeSlots[freeCount] = slot;
+                freeCount++;
+            }
+
+            slot++;
+        }
+    }
+
+    private int Allocate() {
+        if (freeCount > 0) {
+            freeCount--;
+            return freeSlots[freeCount];
+        }
+
+        if (used == sources.length) {
+            int capacity = used << 1;
+            sources = Arrays.copyOf(sources, capacity);
+            fragments = Arrays.copyOf(fragments, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+
+        used++;
+        return used - 1;
+    }
+}
@@ -0,0 +1,32 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+public enum Durability {
+    SYNC("sync"),
+    GROUP("group"),
+    ASYNC("async");
+
+    private static final String INVALID_DURABILITY_ERROR = "알 수 없는 내구성 설정입니다. 사용 가능한 값: sync, group, async";
+
+    private final String value;
+
+    Durability(String value) {
+        this.value = value;
+    }
+
+    public static Durability From(String value) {
+        Durability[] modes = values();
+        int i = 0;
+
+        while (i < modes.length) {
+            if (modes[i].value.equalsIgnoreCase(value.trim())) {
+                return modes[i];
+            }
+
+            i++;
+        }
+
+        throw new IllegalArgumentException(ERROR_PREFIX + INVALID_DURABILITY_ERROR);
+    }
+}
@@ -0,0 +1,6 @@
+package wiseboard.repository;
+
+record DurabilityPolicy(Durability durability, int groupCommitMillis, int groupCommitRecords) {
+
+    static final DurabilityPolicy ASYNC = new DurabilityPolicy(Durability.ASYNC, 0, 0);
+}
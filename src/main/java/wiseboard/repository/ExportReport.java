@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+public record ExportReport(int exportedCount, long elapsedMillis) {
+}
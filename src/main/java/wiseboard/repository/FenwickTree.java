@@ -0,0 +1,80 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+
+class FenwickTree {
+
+    private int[] tree;
+    private int highestBit;
+
+    FenwickTree(int capacity) {
+        Reset(capacity);
+    }
+
+    void Reset(int capacity) {
+        this.tree = new int[capacity + 1];
+        this.highestBit = Integer.highestOneBit(Math.max(1, capacity));
+    }
+
+    void Add(int position, int delta) {
+        int i = position + 1;
+
+        while (i < tree.length) {
+            tree[i] += delta;
+            i += i & -i;
+        }
+    }
+
+    int Prefix(int count) {
+        int sum = 0;
+        int i = count;
+
+        while (i > 0) {
+            sum += tree[i];
+            i -= i & -i;
+        }
+
+        return sum;
+    }
+
+    int Select(int rank) {
+        int position = 0;
+        int remaining = rank;
+        int step = highestBit;
+
+        while (step > 0) {
+            int next = position + step;
+
+            if (next < tree.length && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+
+            step >>= 1;
+        }
+
+        return position;
+    }
+
+    void Build(QuoteSlots slots, int length) {
+        Arrays.fill(tree, 0);
+        int i = 1;
+
+        while (i <= length) {
+            tree[i] = slots.IsLive(i - 1) ? 1 : 0;
+            i++;
+        }
+
+        i = 1;
+
+        while (i < tree.length) {
+            int parent = i + (i & -i);
+
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+
+            i++;
+        }
+    }
+}
@@ -0,0 +1,856 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+import wiseboard.domain.WiseQuote;
+import wiseboard.jfr.LastIdWriteEvent;
+import wiseboard.jfr.QuoteFileDeleteEvent;
+import wiseboard.jfr.QuoteFileWriteEvent;
+import wiseboard.metrics.Gauge;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+class FileQuoteStorage implements QuoteStorage {
+
+    private static final String CREATE_DB_DIR_ERROR = "DB 디렉토리 생성에 실패했습니다.";
+    private static final String LIST_DB_DIR_ERROR = "DB 디렉토리 조회에 실패했습니다.";
+    private static final String READ_LAST_ID_ERROR = "lastId.txt 파일 읽기에 실패했습니다.";
+    private static final String WRITE_LAST_ID_ERROR = "lastId.txt 파일 저장에 실패했습니다.";
+    private static final String READ_QUOTE_FILE_ERROR = "명언 파일 읽기에 실패했습니다: ";
+    private static final String WRITE_QUOTE_FILE_ERROR = "명언 파일 저장에 실패했습니다: ";
+    private static final String DELETE_QUOTE_FILE_ERROR = "명언 파일 삭제에 실패했습니다: ";
+    private static final String WRONG_QUOTE_JSON_ERROR = "명언 파일의 Json 형식이 올바르지 않습니다: ";
+    private static final String LAYOUT_MISMATCH_ERROR = "샤드 디렉토리에 명언 파일이 있습니다. --layout=sharded 로 실행해주세요.";
+
+    private static final int MAX_LOAD_PARALLELISM = 8;
+    private static final int PARSE_BATCH_SIZE = 256;
+    private static final int MAX_ID_DIGITS = 9;
+    private static final long CTIME_MARGIN_MILLIS = 2000;
+    private static final String CTIME_ATTRIBUTE = "unix:ctime";
+    private static final int ID_BLOCK_SIZE = 1000;
+    private static final int SHARD_FANOUT = 100;
+    private static final int MIGRATION_LOCK_COUNT = 64;
+    private static final int MIGRATION_CHUNK_SIZE = 1000;
+
+    private final Path dbDir;
+    private final Path lastIdFile;
+    private final Path lastIdTempFile;
+    private final GroupCommitter committer;
+    private final Set<Path> dirtyFiles;
+    private final Set<Path> dirtyDirs;
+    private final QuoteLayout layout;
+    private final ReentrantLock[] migrationLocks;
+    private final ReentrantLock idLock;
+    private int issuedId;
+    private int reservedId;
+    private Thread migrator;
+    private volatile boolean migrating;
+    private volatile boolean closing;
+    private volatile long migratedCount;
+    private volatile long unmigratedCount;
+    private volatile long failedMigrationCount;
+
+    FileQuoteStorage(Path dbDir) {
+        this(dbDir, DurabilityPolicy.ASYNC);
+    }
+
+    FileQuoteStorage(Path dbDir, DurabilityPolicy policy) {
+        this(dbDir, policy, QuoteLayout.FLAT);
+    }
+
+    FileQuoteStorage(Path dbDir, DurabilityPolicy policy, QuoteLayout layout) {
+        this.dbDir = dbDir;
+        this.lastIdFile = dbDir.resolve("lastId.txt");
+        this.lastIdTempFile = dbDir.resolve("lastId.txt.tmp");
+        this.committer = new GroupCommitter(policy, this::SyncDirtyFiles);
+        this.dirtyFiles = new LinkedHashSet<>();
+        this.dirtyDirs = new LinkedHashSet<>();
+        this.layout = layout;
+        this.migrationLocks = new ReentrantLock[MIGRATION_LOCK_COUNT];
+        this.idLock = new ReentrantLock();
+        int i = 0;
+
+        while (i < MIGRATION_LOCK_COUNT) {
+            migrationLocks[i] = new ReentrantLock();
+            i++;
+        }
+
+        EnsureDbDir();
+
+        if (layout == QuoteLayout.SHARDED) {
+            WiseMetrics.Register(Gauge.LAYOUT_MIGRATED, this::MigratedCount);
+            WiseMetrics.Register(Gauge.LAYOUT_UNMIGRATED, this::UnmigratedCount);
+            WiseMetrics.Register(Gauge.LAYOUT_FAILED, this::FailedMigrationCount);
+        }
+    }
+
+    @Override
+    public LoadResult Load(QuoteIndex quotes) {
+        Integer lastId = ReadLastId();
+        List<Path> flat = new ArrayList<>();
+        int fileCount = LoadQuotes(quotes, flat);
+        StartMigration(flat);
+
+        return new LoadResult(RestoreIdBlock(lastId, quotes), fileCount);
+    }
+
+    @Override
+    public LoadResult LoadAfter(QuoteIndex quotes, StorageMark mark) {
+        Integer lastId = ReadLastId();
+        List<Path> flat = new ArrayList<>();
+        Path[] files = ListQuoteFiles(flat);
+        IntIntMap present = new IntIntMap(files.length);
+        List<Path> changed = new ArrayList<>();
+        long since = mark.position() - CTIME_MARGIN_MILLIS;
+        int i = 0;
+
+        while (i < files.length) {
+            int id = IdOf(files[i]);
+            present.Put(id, i);
+
+            if (!quotes.Contains(id) || ChangedMillis(files[i]) >= since) {
+                changed.add(files[i]);
+            }
+
+            i++;
+        }
+
+        RemoveMissing(quotes, present);
+
+        WiseQuote[] loaded = ParseQuoteFiles(changed.toArray(new Path[0]));
+        i = 0;
+
+        while (i < loaded.length) {
+            if (!quotes.Replace(loaded[i])) {
+                quotes.Add(loaded[i]);
+            }
+
+            i++;
+        }
+
+        StartMigration(flat);
+        return new LoadResult(RestoreIdBlock(lastId, quotes), loaded.length);
+    }
+
+    LoadResult LoadIds(QuoteIndex quotes) {
+        Integer lastId = ReadLastId();
+        List<Path> flat = new ArrayList<>();
+        Path[] files = ListQuoteFiles(flat);
+        int[] ids = new int[files.length];
+        int i = 0;
+
+        while (i < files.length) {
+            ids[i] = IdOf(files[i]);
+            i++;
+        }
+
+        Arrays.sort(ids);
+        i = 0;
+
+        while (i < ids.length) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                quotes.AddId(ids[i]);
+            }
+
+            i++;
+        }
+
+        StartMigration(flat);
+        return new LoadResult(RestoreIdBlock(lastId, quotes), files.length);
+    }
+
+    WiseQuote ReadQuote(int id) {
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            WiseQuote quote = migrating ? ReadMigratingQuote(id) : ReadQuoteFileIfExists(QuoteFile(id));
+            failed = false;
+            return quote;
+        } finally {
+            WiseMetrics.Record(Metric.QUOTE_FILE_READ, started, failed);
+        }
+    }
+
+    Path QuoteFile(int id) {
+        if (layout == QuoteLayout.FLAT) {
+            return FlatFile(id);
+        }
+
+        return dbDir.resolve(TwoDigits(id / SHARD_FANOUT / SHARD_FANOUT))
+                .resolve(TwoDigits(id / SHARD_FANOUT % SHARD_FANOUT))
+                .resolve(id + ".json");
+    }
+
+    void AwaitMigration() {
+        Thread running = migrator;
+
+        if (running == null) {
+            return;
+        }
+
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long MigratedCount() {
+        return migratedCount;
+    }
+
+    long UnmigratedCount() {
+        return unmigratedCount;
+    }
+
+    long FailedMigrationCount() {
+        return failedMigrationCount;
+    }
+
+    @Override
+    public StorageMark Mark() {
+        return new StorageMark(0, System.currentTimeMillis());
+    }
+
+    @Override
+    public void WriteRegister(WiseQuote quote) {
+        WriteQuoteFile(quote);
+        ReserveId(quote.id());
+        committer.Written();
+    }
+
+    @Override
+    public void WriteModify(WiseQuote quote) {
+        WriteQuoteFile(quote);
+        committer.Written();
+    }
+
+    @Override
+    public void WriteDelete(int id) {
+        DeleteQuoteFile(id);
+        ReserveId(id);
+        committer.Written();
+    }
+
+    @Override
+    public void BeginBatch() {
+        committer.BeginBatch();
+    }
+
+    @Override
+    public void CommitBatch() {
+        committer.CommitBatch();
+    }
+
+    @Override
+    public void Close() {
+        closing = true;
+        AwaitMigration();
+
+        idLock.lock();
+
+        try {
+            if (issuedId < reservedId) {
+                WriteLastId(issuedId);
+                reservedId = issuedId;
+            }
+        } finally {
+            idLock.unlock();
+        }
+
+        committer.Close();
+    }
+
+    private void EnsureDbDir() {
+        try {
+            Files.createDirectories(dbDir);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + CREATE_DB_DIR_ERROR);
+        }
+    }
+
+    private void ReserveId(int id) {
+        idLock.lock();
+
+        try {
+            issuedId = Math.max(issuedId, id);
+
+            if (id > reservedId) {
+                reservedId = id + ID_BLOCK_SIZE;
+                WriteLastId(reservedId);
+            }
+        } finally {
+            idLock.unlock();
+        }
+    }
+
+    private int RestoreIdBlock(int persistedId, QuoteIndex quotes) {
+        issuedId = Math.max(persistedId, quotes.LastId());
+        reservedId = issuedId;
+
+        return issuedId;
+    }
+
+    private Integer ReadLastId() {
+        if (!Files.exists(lastIdFile)) {
+            return 0;
+        }
+
+        try {
+            String text = Files.readString(lastIdFile, StandardCharsets.UTF_8).trim();
+
+            if (text.isEmpty()) {
+                return 0;
+            }
+
+            return Integer.valueOf(text);
+        } catch (IOException | NumberFormatException e) {
+            throw new StorageException(ERROR_PREFIX + READ_LAST_ID_ERROR);
+        }
+    }
+
+    private void WriteLastId(Integer id) {
+        byte[] text = String.valueOf(id).getBytes(StandardCharsets.UTF_8);
+        LastIdWriteEvent event = new LastIdWriteEvent();
+        event.begin();
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            ReplaceLastIdFile(text);
+            failed = false;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_LAST_ID_ERROR);
+        } finally {
+            WiseMetrics.Record(Metric.LAST_ID_WRITE, started, failed);
+            event.id = id;
+            event.bytes = text.length;
+            event.commit();
+        }
+    }
+
+    private void ReplaceLastIdFile(byte[] text) throws IOException {
+        try (FileChannel channel = FileChannel.open(lastIdTempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(text);
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            channel.force(true);
+        }
+
+        Files.move(lastIdTempFile, lastIdFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        GroupCommitter.SyncDirectory(dbDir);
+    }
+
+    private int LoadQuotes(QuoteIndex quotes, List<Path> flat) {
+        Path[] files = ListQuoteFiles(flat);
+        WiseQuote[] loaded = ParseQuoteFiles(files);
+        int i = 0;
+
+        while (i < loaded.length) {
+            quotes.Add(loaded[i]);
+            i++;
+        }
+
+        return files.length;
+    }
+
+    private WiseQuote[] ParseQuoteFiles(Path[] files) {
+        WiseQuote[] loaded = new WiseQuote[files.length];
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(MAX_LOAD_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
+        try {
+            pool.invoke(new ParseTask(files, loaded, 0, files.length));
+        } finally {
+            pool.shutdown();
+        }
+
+        Arrays.sort(loaded, Comparator.comparingInt(WiseQuote::id));
+        return loaded;
+    }
+
+    private void RemoveMissing(QuoteIndex quotes, IntIntMap present) {
+        int[] ids = quotes.IdsAsc();
+        int i = 0;
+
+        while (i < ids.length) {
+            if (present.Get(ids[i]) < 0) {
+                quotes.Remove(ids[i]);
+            }
+
+            i++;
+        }
+    }
+
+    private int IdOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - ".json".length()));
+    }
+
+    private long ChangedMillis(Path file) {
+        try {
+            return ((FileTime) Files.getAttribute(file, CTIME_ATTRIBUTE)).toMillis();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return Long.MAX_VALUE;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_QUOTE_FILE_ERROR + file.getFileName());
+        }
+    }
+
+    private Path[] ListQuoteFiles(List<Path> flat) {
+        List<Path> files = new ArrayList<>();
+        List<Path> shards = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dbDir)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+
+                if (IsQuoteFileName(name)) {
+                    files.add(path);
+                    flat.add(path);
+                } else if (IsShardName(name) && Files.isDirectory(path)) {
+                    shards.add(path);
+                }
+            }
+
+            if (!shards.isEmpty() && layout == QuoteLayout.FLAT) {
+                throw new IllegalArgumentException(ERROR_PREFIX + LAYOUT_MISMATCH_ERROR);
+            }
+
+            int i = 0;
+
+            while (i < shards.size()) {
+                ListShard(shards.get(i), files);
+                i++;
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + LIST_DB_DIR_ERROR);
+        }
+
+        return files.toArray(new Path[0]);
+    }
+
+    private void ListShard(Path shard, List<Path> files) throws IOException {
+        try (DirectoryStream<Path> leaves = Files.newDirectoryStream(shard)) {
+            for (Path leaf : leaves) {
+                if (!IsShardName(leaf.getFileName().toString()) || !Files.isDirectory(leaf)) {
+                    continue;
+                }
+
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(leaf, "*.json")) {
+                    for (Path path : stream) {
+                        if (IsQuoteFileName(path.getFileName().toString())) {
+                            files.add(path);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean IsShardName(String name) {
+        if (name.length() < 2 || name.length() > MAX_ID_DIGITS) {
+            return false;
+        }
+
+        int i = 0;
+
+        while (i < name.length()) {
+            if (!IsDigit(name.charAt(i))) {
+                return false;
+            }
+
+            i++;
+        }
+
+        return true;
+    }
+
+    private Path FlatFile(int id) {
+        return dbDir.resolve(id + ".json");
+    }
+
+    private String TwoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    private void StartMigration(List<Path> flat) {
+        if (layout == QuoteLayout.FLAT || flat.isEmpty() || migrator != null) {
+            return;
+        }
+
+        Path[] files = flat.toArray(new Path[0]);
+        unmigratedCount = files.length;
+        migrating = true;
+        migrator = new Thread(() -> Migrate(files), "wise-shard-migration");
+        migrator.setDaemon(true);
+        migrator.start();
+    }
+
+    private void Migrate(Path[] files) {
+        boolean complete = true;
+        int i = 0;
+
+        try {
+            while (i < files.length && !closing) {
+                if (MoveToShard(files[i])) {
+                    migratedCount++;
+                    unmigratedCount--;
+                } else {
+                    complete = false;
+                    failedMigrationCount++;
+                }
+
+                i++;
+
+                if (i % MIGRATION_CHUNK_SIZE == 0) {
+                    committer.Written();
+                }
+            }
+
+            committer.Written();
+        } catch (StorageException e) {
+            complete = false;
+        }
+
+        migrating = !complete || i < files.length;
+    }
+
+    private boolean MoveToShard(Path flatFile) {
+        int id = IdOf(flatFile);
+        Path target = QuoteFile(id);
+
+        ReentrantLock lock = MigrationLock(id);
+        lock.lock();
+
+        try {
+            if (!Files.exists(flatFile)) {
+                return true;
+            }
+
+            if (!Files.isDirectory(target.getParent())) {
+                CreateShardDir(target.getParent());
+            }
+
+            if (Files.exists(target)) {
+                return DeleteStale(flatFile);
+            }
+
+            LinkOrMove(target, flatFile);
+            MarkDirtyDir(target.getParent());
+            MarkDirtyDir(dbDir);
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void LinkOrMove(Path target, Path source) throws IOException {
+        try {
+            Files.createLink(target, source);
+            Files.deleteIfExists(source);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private boolean DeleteStale(Path flatFile) {
+        try {
+            Files.deleteIfExists(flatFile);
+            MarkDirtyDir(dbDir);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void CreateShardDir(Path leaf) throws IOException {
+        Files.createDirectories(leaf);
+        MarkDirtyDir(leaf.getParent());
+        MarkDirtyDir(dbDir);
+    }
+
+    private ReentrantLock MigrationLock(int id) {
+        return migrationLocks[id & (MIGRATION_LOCK_COUNT - 1)];
+    }
+
+    private boolean IsQuoteFileName(String name) {
+        int end = name.length() - ".json".length();
+
+        if (end <= 0 || end > MAX_ID_DIGITS || !name.endsWith(".json") || name.charAt(0) == '0') {
+            return false;
+        }
+
+        int i = 0;
+
+        while (i < end) {
+            if (!IsDigit(name.charAt(i))) {
+                return false;
+            }
+
+            i++;
+        }
+
+        return true;
+    }
+
+    private WiseQuote ReadMigratingQuote(int id) {
+        ReentrantLock lock = MigrationLock(id);
+        lock.lock();
+
+        try {
+            Path shardFile = QuoteFile(id);
+            WiseQuote quote = Files.isDirectory(shardFile.getParent()) ? ReadQuoteFileIfExists(shardFile) : null;
+            return quote != null ? quote : ReadQuoteFileIfExists(FlatFile(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private WiseQuote ReadQuoteFileIfExists(Path path) {
+        try {
+            return ParseQuote(Files.readAllBytes(path), path);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_QUOTE_FILE_ERROR + path.getFileName());
+        }
+    }
+
+    private WiseQuote ReadQuoteFile(Path path) {
+        try {
+            return ParseQuote(Files.readAllBytes(path), path);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_QUOTE_FILE_ERROR + path.getFileName());
+        }
+    }
+
+    private WiseQuote ParseQuote(byte[] json, Path path) throws IOException {
+        try {
+            return QuoteJson.ReadQuote(new JsonReader(ByteBuffer.wrap(json)));
+        } catch (IllegalArgumentException e) {
+            throw new StorageException(ERROR_PREFIX + WRONG_QUOTE_JSON_ERROR + path.getFileName());
+        }
+    }
+
+    private void WriteQuoteFile(WiseQuote quote) {
+        if (!migrating) {
+            WriteQuoteFile(quote, QuoteFile(quote.id()));
+            return;
+        }
+
+        ReentrantLock lock = MigrationLock(quote.id());
+        lock.lock();
+
+        try {
+            WriteQuoteFile(quote, QuoteFile(quote.id()));
+            DeleteStaleFlat(quote.id());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void WriteQuoteFile(WiseQuote quote, Path quoteFile) {
+        byte[] json = QuoteJson.QuoteFileBytes(quote);
+        QuoteFileWriteEvent event = new QuoteFileWriteEvent();
+        event.begin();
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            WriteCreatingShard(quoteFile, json);
+            MarkDirty(quoteFile);
+            failed = false;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_QUOTE_FILE_ERROR + quote.id());
+        } finally {
+            WiseMetrics.Record(Metric.QUOTE_FILE_WRITE, started, failed);
+            event.id = quote.id();
+            event.bytes = json.length;
+            event.commit();
+        }
+    }
+
+    private void DeleteQuoteFile(Integer id) {
+        if (!migrating) {
+            DeleteQuoteFile(id, QuoteFile(id));
+            return;
+        }
+
+        ReentrantLock lock = MigrationLock(id);
+        lock.lock();
+
+        try {
+            DeleteQuoteFile(id, QuoteFile(id));
+            DeleteStaleFlat(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void DeleteQuoteFile(Integer id, Path quoteFile) {
+        QuoteFileDeleteEvent event = new QuoteFileDeleteEvent();
+        event.begin();
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            if (event.isEnabled() && Files.exists(quoteFile)) {
+                event.bytes = Files.size(quoteFile);
+            }
+
+            Files.deleteIfExists(quoteFile);
+            MarkDirty(quoteFile);
+            failed = false;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + DELETE_QUOTE_FILE_ERROR + id);
+        } finally {
+            WiseMetrics.Record(Metric.QUOTE_FILE_DELETE, started, failed);
+            event.id = id;
+            event.commit();
+        }
+    }
+
+    private void WriteCreatingShard(Path quoteFile, byte[] json) throws IOException {
+        try {
+            Files.write(quoteFile, json);
+        } catch (NoSuchFileException e) {
+            if (layout == QuoteLayout.FLAT) {
+                throw e;
+            }
+
+            CreateShardDir(quoteFile.getParent());
+            Files.write(quoteFile, json);
+        }
+    }
+
+    private void DeleteStaleFlat(int id) {
+        try {
+            if (Files.deleteIfExists(FlatFile(id))) {
+                MarkDirtyDir(dbDir);
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + DELETE_QUOTE_FILE_ERROR + id);
+        }
+    }
+
+    private void MarkDirtyDir(Path dir) {
+        if (committer.IsAsync()) {
+            return;
+        }
+
+        synchronized (dirtyFiles) {
+            dirtyDirs.add(dir);
+        }
+    }
+
+    private void MarkDirty(Path file) {
+        if (committer.IsAsync()) {
+            return;
+        }
+
+        synchronized (dirtyFiles) {
+            dirtyFiles.add(file);
+        }
+    }
+
+    private void SyncDirtyFiles() throws IOException {
+        Path[] files;
+        Set<Path> dirs;
+
+        synchronized (dirtyFiles) {
+            files = dirtyFiles.toArray(new Path[0]);
+            dirs = new LinkedHashSet<>(dirtyDirs);
+            dirtyFiles.clear();
+            dirtyDirs.clear();
+        }
+
+        int i = 0;
+
+        while (i < files.length) {
+            ForceFile(files[i]);
+            dirs.add(files[i].getParent());
+            i++;
+        }
+
+        dirs.add(dbDir);
+
+        for (Path dir : dirs) {
+            GroupCommitter.SyncDirectory(dir);
+        }
+    }
+
+    private void ForceFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+    }
+
+    private boolean IsDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private class ParseTask extends RecursiveAction {
+
+        private final Path[] files;
+        private final WiseQuote[] loaded;
+        private final int from;
+        private final int to;
+
+        ParseTask(Path[] files, WiseQuote[] loaded, int from, int to) {
+            this.files = files;
+            this.loaded = loaded;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARSE_BATCH_SIZE) {
+                int i = from;
+
+                while (i < to) {
+                    loaded[i] = ReadQuoteFile(files[i]);
+                    i++;
+                }
+
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParseTask(files, loaded, from, mid), new ParseTask(files, loaded, mid, to));
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+class GroupCommitter {
+
+    private static final String SYNC_ERROR = "디스크 동기화에 실패했습니다.";
+
+    private final Durability durability;
+    private final long maxDelayNanos;
+    private final int maxRecords;
+    private final Syncer syncer;
+    private final ReentrantLock lock;
+    private final Condition pending;
+    private final Condition durable;
+    private final Thread flusher;
+    private final ReentrantLock syncLock;
+    private final ThreadLocal<Integer> batchDepth;
+    private final ThreadLocal<Long> batchStart;
+
+    private long writtenTicket;
+    private long durableTicket;
+    private long failedFrom;
+    private long failedThrough;
+    private int openBatches;
+    private int waiters;
+    private boolean urgent;
+    private boolean closed;
+
+    GroupCommitter(DurabilityPolicy policy, Syncer syncer) {
+        this.durability = policy.durability();
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, policy.groupCommitMillis()));
+        this.maxRecords = Math.max(1, policy.groupCommitRecords());
+        this.syncer = syncer;
+        this.lock = new ReentrantLock();
+        this.pending = lock.newCondition();
+        this.durable = lock.newCondition();
+        this.syncLock = new ReentrantLock();
+        this.batchDepth = ThreadLocal.withInitial(() -> 0);
+        this.batchStart = new ThreadLocal<>();
+
+        if (durability == Durability.GROUP) {
+            this.flusher = new Thread(this::FlushLoop, "wise-group-commit");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    boolean IsAsync() {
+        return durability == Durability.ASYNC;
+    }
+
+    static void SyncDirectory(Path dir) throws IOException {
+        FileChannel channel;
+
+        try {
+            channel = FileChannel.open(dir, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    void Written() {
+        Await(Issue());
+    }
+
+    long Issue() {
+        if (durability == Durability.ASYNC) {
+            return 0;
+        }
+
+        lock.lock();
+
+        try {
+            writtenTicket++;
+            return writtenTicket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void Await(long ticket) {
+        if (durability == Durability.ASYNC) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            if (batchDepth.get() > 0) {
+                return;
+            }
+
+            if (durableTicket < ticket && !Failed(ticket - 1, ticket)) {
+                if (durability == Durability.SYNC) {
+                    SyncTo(ticket);
+                } else {
+                    waiters++;
+
+                    try {
+                        pending.signal();
+                        AwaitDurable(ticket);
+                    } finally {
+                        waiters--;
+                    }
+                }
+            }
+
+            ThrowIfFailed(ticket - 1, ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void BeginBatch() {
+        lock.lock();
+
+        try {
+            int depth = batchDepth.get();
+
+            if (depth == 0) {
+                batchStart.set(writtenTicket);
+            }
+
+            batchDepth.set(depth + 1);
+            openBatches++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void CommitBatch() {
+        lock.lock();
+
+        try {
+            int depth = batchDepth.get();
+
+            if (depth > 1) {
+                batchDepth.set(depth - 1);
+                openBatches--;
+                return;
+            }
+
+            Long start = batchStart.get();
+
+            if (depth == 1) {
+                openBatches--;
+            }
+
+            batchDepth.remove();
+            batchStart.remove();
+
+            long target = SyncNowLocked();
+            ThrowIfFailed(start == null ? target - 1 : start, target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void SyncNow() {
+        lock.lock();
+
+        try {
+            long target = SyncNowLocked();
+            ThrowIfFailed(target - 1, target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void Close() {
+        SyncNow();
+
+        lock.lock();
+
+        try {
+            closed = true;
+            pending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long SyncNowLocked() {
+        long target = writtenTicket;
+
+        if (durability == Durability.ASYNC || Settled() >= target) {
+            return target;
+        }
+
+        if (flusher == null) {
+            SyncTo(target);
+            return target;
+        }
+
+        urgent = true;
+        pending.signal();
+        AwaitDurable(target);
+
+        return target;
+    }
+
+    private void Sync() throws IOException {
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+
+        try {
+            syncer.Sync();
+            failed = false;
+        } finally {
+            WiseMetrics.Record(Metric.SYNC, started, failed);
+        }
+    }
+
+    private void SyncTo(long ticket) {
+        lock.unlock();
+        syncLock.lock();
+        lock.lock();
+
+        try {
+            if (durableTicket >= ticket || Failed(ticket - 1, ticket)) {
+                return;
+            }
+
+            long from = durableTicket;
+            long target = writtenTicket;
+            boolean failed = true;
+            lock.unlock();
+
+            try {
+                Sync();
+                failed = false;
+            } catch (IOException | RuntimeException ignored) {
+            } finally {
+                lock.lock();
+            }
+
+            if (failed) {
+                failedFrom = failedThrough == 0 ? from : Math.min(failedFrom, from);
+                failedThrough = Math.max(failedThrough, target);
+            } else {
+                durableTicket = Math.max(durableTicket, target);
+            }
+
+            durable.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long Settled() {
+        return Math.max(durableTicket, failedThrough);
+    }
+
+    private boolean Failed(long from, long through) {
+        return failedFrom < through && failedThrough > from;
+    }
+
+    private void ThrowIfFailed(long from, long through) {
+        if (Failed(from, through)) {
+            throw new StorageException(ERROR_PREFIX + SYNC_ERROR);
+        }
+    }
+
+    private void AwaitDurable(long ticket) {
+        boolean interrupted = false;
+
+        while (durableTicket < ticket && !Failed(ticket - 1, ticket)) {
+            try {
+                durable.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void FlushLoop() {
+        boolean interrupted = false;
+        lock.lock();
+
+        try {
+            while (!closed) {
+                if (Settled() >= writtenTicket || (openBatches > 0 && waiters == 0 && !urgent)) {
+                    pending.awaitUninterruptibly();
+                    continue;
+                }
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+
+                while (!closed && writtenTicket - durableTicket < maxRecords && !urgent) {
+                    long remaining = deadline - System.nanoTime();
+
+                    if (remaining <= 0) {
+                        break;
+                    }
+
+                    try {
+                        pending.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+
+                urgent = false;
+                SyncTo(writtenTicket);
+            }
+        } finally {
+            lock.unlock();
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    interface Syncer {
+        void Sync() throws IOException;
+    }
+}
@@ -0,0 +1,90 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import wiseboard.domain.WiseQuote;
+
+class HeapQuoteSlots implements QuoteSlots {
+
+    private WiseQuote[] quotes;
+
+    HeapQuoteSlots() {
+        this.quotes = new WiseQuote[0];
+    }
+
+    @Override
+    public WiseQuote Get(int slot, int id) {
+        return quotes[slot];
+    }
+
+    @Override
+    public boolean IsLive(int slot) {
+        return quotes[slot] != null;
+    }
+
+    @Override
+    public void Set(int slot, WiseQuote quote) {
+        quotes[slot] = quote;
+    }
+
+    @Override
+    public void Clear(int slot) {
+        quotes[slot] = null;
+    }
+
+    @Override
+    public void Move(int from, int to) {
+        quotes[to] = quotes[from];
+    }
+
+    @Override
+    public void ShiftRight(int from, int length) {
+        System.arraycopy(quotes, from, quotes, from + 1, length - from);
+        quotes[from] = null;
+    }
+
+    @Override
+    public void ClearAll(int length) {
+        Arrays.fill(quotes, 0, length, null);
+    }
+
+    @Override
+    public void Grow(int capacity) {
+        quotes = Arrays.copyOf(quotes, capacity);
+    }
+
+    @Override
+    public void Compacted(int length) {
+        Arrays.fill(quotes, length, quotes.length, null);
+    }
+
+    @Override
+    public long HeapBytes(int length) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = QuoteFootprint.ArrayBytes((long) quotes.length * QuoteFootprint.REFERENCE_BYTES);
+        int i = 0;
+
+        while (i < length) {
+            if (quotes[i] != null) {
+                bytes += QuoteFootprint.QuoteObjectBytes(quotes[i]);
+                bytes += seen.add(quotes[i].author()) ? QuoteFootprint.StringBytes(quotes[i].author()) : 0;
+                bytes += seen.add(quotes[i].content()) ? QuoteFootprint.StringBytes(quotes[i].content()) : 0;
+            }
+
+            i++;
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public long OffHeapBytes() {
+        return 0;
+    }
+
+    @Override
+    public void Close() {
+    }
+}
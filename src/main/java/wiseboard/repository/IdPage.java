@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+record IdPage(int[] ids, int total) {
+}
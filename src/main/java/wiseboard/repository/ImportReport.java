@@ -0,0 +1,16 @@
+package wiseboard.repository;
+
+public record ImportReport(int importedCount, int rejectedCount, int[] idRanges, long elapsedMillis) {
+
+    public int RangeCount() {
+        return idRanges.length / 2;
+    }
+
+    public int FirstId(int range) {
+        return idRanges[range * 2];
+    }
+
+    public int LastId(int range) {
+        return idRanges[range * 2 + 1];
+    }
+}
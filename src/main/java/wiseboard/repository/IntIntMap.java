@@ -0,0 +1,145 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.util.Arrays;
+
+class IntIntMap {
+
+    private static final String RESERVED_KEY_ERROR = "id 0은 인덱스 키로 사용할 수 없습니다.";
+
+    private static final int EMPTY_KEY = 0;
+    private static final int MISSING = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    IntIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    IntIntMap(int expected) {
+        int capacity = MIN_CAPACITY;
+
+        while (capacity < expected * 2) {
+            capacity <<= 1;
+        }
+
+        Allocate(capacity);
+    }
+
+    int Get(int key) {
+        int slot = Slot(key);
+
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return MISSING;
+    }
+
+    void Put(int key, int value) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException(ERROR_PREFIX + RESERVED_KEY_ERROR);
+        }
+
+        int slot = Slot(key);
+
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        if (size * 2 > keys.length) {
+            Resize(keys.length << 1);
+        }
+    }
+
+    int Remove(int key) {
+        int slot = Slot(key);
+
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                int removed = values[slot];
+                ShiftBack(slot);
+                size--;
+                return removed;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return MISSING;
+    }
+
+    int Size() {
+        return size;
+    }
+
+    void Clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    private void ShiftBack(int hole) {
+        int slot = (hole + 1) & mask;
+
+        while (keys[slot] != EMPTY_KEY) {
+            int home = Slot(keys[slot]);
+
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[hole] = EMPTY_KEY;
+    }
+
+    private void Resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        Allocate(capacity);
+        size = 0;
+
+        int i = 0;
+
+        while (i < oldKeys.length) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                Put(oldKeys[i], oldValues[i]);
+            }
+
+            i++;
+        }
+    }
+
+    private void Allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private int Slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
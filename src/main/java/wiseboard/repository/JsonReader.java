@@ -0,0 +1,343 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+public class JsonReader {
+
+    private static final String WRONG_JSON_ERROR = "Json 형식이 올바르지 않습니다. 위치: ";
+    private static final int INITIAL_CHARS = 64;
+    private static final int EOF = -1;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private long consumed;
+    private char[] chars;
+    private int charCount;
+
+    JsonReader(ReadableByteChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.chars = new char[INITIAL_CHARS];
+        buffer.clear();
+        buffer.flip();
+    }
+
+    public JsonReader(ByteBuffer source) {
+        this.channel = null;
+        this.buffer = source;
+        this.chars = new char[INITIAL_CHARS];
+    }
+
+    public int Peek() throws IOException {
+        SkipWhitespace();
+
+        if (!Fill()) {
+            return EOF;
+        }
+
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    public boolean AtEnd() throws IOException {
+        return Peek() == EOF;
+    }
+
+    public void Expect(char expected) throws IOException {
+        if (Peek() != expected) {
+            throw Error();
+        }
+
+        Next();
+    }
+
+    public boolean Consume(char expected) throws IOException {
+        if (Peek() != expected) {
+            return false;
+        }
+
+        Next();
+        return true;
+    }
+
+    public String ReadString() throws IOException {
+        DecodeString();
+        return new String(chars, 0, charCount);
+    }
+
+    public int ReadKey(String[] keys) throws IOException {
+        DecodeString();
+        Expect(':');
+        int i = 0;
+
+        while (i < keys.length) {
+            if (Matches(keys[i])) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return EOF;
+    }
+
+    public int ReadInt() throws IOException {
+        int c = Peek();
+        boolean negative = c == '-';
+
+        if (negative) {
+            Next();
+            c = Fill() ? buffer.get(buffer.position()) : EOF;
+        }
+
+        if (c < '0' || c > '9') {
+            throw Error();
+        }
+
+        long value = 0;
+
+        while (Fill() && IsDigit(buffer.get(buffer.position()))) {
+            value = value * 10 + (Next() - '0');
+
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw Error();
+            }
+        }
+
+        value = negative ? -value : value;
+
+        if (value > Integer.MAX_VALUE) {
+            throw Error();
+        }
+
+        return (int) value;
+    }
+
+    public void SkipValue() throws IOException {
+        int c = Peek();
+
+        if (c == '"') {
+            DecodeString();
+        } else if (c == '{' || c == '[') {
+            SkipContainer();
+        } else if (c == '-' || (c >= '0' && c <= '9')) {
+            SkipScalar();
+        } else if (c == 't' || c == 'f' || c == 'n') {
+            SkipScalar();
+        } else {
+            throw Error();
+        }
+    }
+
+    public IllegalArgumentException Error() {
+        return new IllegalArgumentException(ERROR_PREFIX + WRONG_JSON_ERROR + (consumed + buffer.position()));
+    }
+
+    private void SkipContainer() throws IOException {
+        int depth = 0;
+
+        do {
+            int c = Peek();
+
+            if (c == '"') {
+                DecodeString();
+                continue;
+            }
+
+            if (c == EOF) {
+                throw Error();
+            }
+
+            Next();
+
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    private void SkipScalar() throws IOException {
+        while (Fill()) {
+            byte b = buffer.get(buffer.position());
+
+            if (b == ',' || b == '}' || b == ']' || IsWhitespace(b)) {
+                return;
+            }
+
+            Next();
+        }
+    }
+
+    private void DecodeString() throws IOException {
+        Expect('"');
+        charCount = 0;
+
+        while (true) {
+            int b = Next();
+
+            if (b == '"') {
+                return;
+            }
+
+            if (b == '\\') {
+                Append(Escaped());
+            } else if (b < 0x20) {
+                throw Error();
+            } else if (b < 0x80) {
+                Append((char) b);
+            } else if (b >= 0xC2 && b < 0xE0) {
+                Append((char) ((b & 0x1F) << 6 | Continuation()));
+            } else if (b >= 0xE0 && b < 0xF0) {
+                int c = (b & 0x0F) << 12 | Continuation() << 6 | Continuation();
+
+                if (c < 0x800 || Character.isSurrogate((char) c)) {
+                    throw Error();
+                }
+
+                Append((char) c);
+            } else if (b >= 0xF0 && b < 0xF5) {
+                int codePoint = (b & 0x07) << 18 | Continuation() << 12 | Continuation() << 6 | Continuation();
+
+                if (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT) {
+                    throw Error();
+                }
+
+                Append(Character.highSurrogate(codePoint));
+                Append(Character.lowSurrogate(codePoint));
+            } else {
+                throw Error();
+            }
+        }
+    }
+
+    private char Escaped() throws IOException {
+        int b = Next();
+
+        switch (b) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'u':
+                return (char) (Hex() << 12 | Hex() << 8 | Hex() << 4 | Hex());
+        }
+
+        throw Error();
+    }
+
+    private int Hex() throws IOException {
+        int b = Next();
+
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+
+        throw Error();
+    }
+
+    private int Continuation() throws IOException {
+        int b = Next();
+
+        if ((b & 0xC0) != 0x80) {
+            throw Error();
+        }
+
+        return b & 0x3F;
+    }
+
+    private boolean Matches(String key) {
+        if (key.length() != charCount) {
+            return false;
+        }
+
+        int i = 0;
+
+        while (i < charCount) {
+            if (key.charAt(i) != chars[i]) {
+                return false;
+            }
+
+            i++;
+        }
+
+        return true;
+    }
+
+    private void Append(char c) {
+        if (charCount == chars.length) {
+            chars = Arrays.copyOf(chars, charCount << 1);
+        }
+
+        chars[charCount] = c;
+        charCount++;
+    }
+
+    private void SkipWhitespace() throws IOException {
+        while (Fill() && IsWhitespace(buffer.get(buffer.position()))) {
+            buffer.position(buffer.position() + 1);
+        }
+    }
+
+    private int Next() throws IOException {
+        if (!Fill()) {
+            throw Error();
+        }
+
+        return buffer.get() & 0xFF;
+    }
+
+    private boolean Fill() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+
+        if (channel == null) {
+            return false;
+        }
+
+        consumed += buffer.position();
+        buffer.clear();
+        int read = 0;
+
+        while (read == 0) {
+            read = channel.read(buffer);
+        }
+
+        buffer.flip();
+        return read > 0;
+    }
+
+    private boolean IsWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private boolean IsDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
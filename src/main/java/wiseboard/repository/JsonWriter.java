@@ -0,0 +1,224 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class JsonWriter {
+
+    private static final String WRITE_JSON_ERROR = "Json 파일 저장에 실패했습니다.";
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private byte[] bytes;
+    private int length;
+
+    JsonWriter(WritableByteChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        buffer.clear();
+    }
+
+    public JsonWriter() {
+        this.channel = null;
+        this.buffer = null;
+        this.bytes = new byte[INITIAL_CAPACITY];
+    }
+
+    public JsonWriter Raw(byte[] raw) {
+        int offset = 0;
+
+        while (offset < raw.length) {
+            Reserve(1);
+            int count = Math.min(Room(), raw.length - offset);
+            PutBytes(raw, offset, count);
+            offset += count;
+        }
+
+        return this;
+    }
+
+    public JsonWriter Int(int value) {
+        Reserve(11);
+
+        if (value < 0) {
+            Put((byte) '-');
+
+            if (value == Integer.MIN_VALUE) {
+                return Raw("2147483648".getBytes(StandardCharsets.US_ASCII));
+            }
+
+            value = -value;
+        }
+
+        int digits = 1;
+        int scale = 1;
+
+        while (scale <= value / 10) {
+            scale *= 10;
+            digits++;
+        }
+
+        while (digits > 0) {
+            Put((byte) ('0' + value / scale % 10));
+            scale /= 10;
+            digits--;
+        }
+
+        return this;
+    }
+
+    public JsonWriter Long(long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return Int((int) value);
+        }
+
+        return Raw(String.valueOf(value).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public JsonWriter String(String text) {
+        Reserve(1);
+        Put((byte) '"');
+        int i = 0;
+
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            Reserve(MAX_CHAR_BYTES);
+
+            if (c == '"' || c == '\\') {
+                Put((byte) '\\');
+                Put((byte) c);
+            } else if (c < 0x20) {
+                Control(c);
+            } else if (c < 0x80) {
+                Put((byte) c);
+            } else if (c < 0x800) {
+                Put((byte) (0xC0 | c >> 6));
+                Put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+                Put((byte) (0xF0 | codePoint >> 18));
+                Put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                Put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                Put((byte) (0x80 | codePoint & 0x3F));
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                Unicode(c);
+            } else {
+                Put((byte) (0xE0 | c >> 12));
+                Put((byte) (0x80 | c >> 6 & 0x3F));
+                Put((byte) (0x80 | c & 0x3F));
+            }
+
+            i++;
+        }
+
+        Reserve(1);
+        Put((byte) '"');
+        return this;
+    }
+
+    public byte[] ToByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    void Flush() {
+        if (channel == null) {
+            return;
+        }
+
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_JSON_ERROR);
+        }
+
+        buffer.clear();
+    }
+
+    private void Control(char c) {
+        switch (c) {
+            case '\n':
+                Escape('n');
+                return;
+            case '\r':
+                Escape('r');
+                return;
+            case '\t':
+                Escape('t');
+                return;
+            case '\b':
+                Escape('b');
+                return;
+            case '\f':
+                Escape('f');
+                return;
+        }
+
+        Unicode(c);
+    }
+
+    private void Escape(char letter) {
+        Put((byte) '\\');
+        Put((byte) letter);
+    }
+
+    private void Unicode(char c) {
+        Put((byte) '\\');
+        Put((byte) 'u');
+        Put(HEX[c >> 12 & 0xF]);
+        Put(HEX[c >> 8 & 0xF]);
+        Put(HEX[c >> 4 & 0xF]);
+        Put(HEX[c & 0xF]);
+    }
+
+    private void Reserve(int count) {
+        if (Room() >= count) {
+            return;
+        }
+
+        if (channel != null) {
+            Flush();
+            return;
+        }
+
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, length + count));
+    }
+
+    private int Room() {
+        return channel != null ? buffer.remaining() : bytes.length - length;
+    }
+
+    private void Put(byte b) {
+        if (channel != null) {
+            buffer.put(b);
+            return;
+        }
+
+        bytes[length] = b;
+        length++;
+    }
+
+    private void PutBytes(byte[] raw, int offset, int count) {
+        if (channel != null) {
+            buffer.put(raw, offset, count);
+            return;
+        }
+
+        System.arraycopy(raw, offset, bytes, length, count);
+        length += count;
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+public record LoadReport(int quoteCount, int fileCount, long elapsedMillis, boolean fromSnapshot) {
+}
@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+record LoadResult(int lastId, int fileCount) {
+}
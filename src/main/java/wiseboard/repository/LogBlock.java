@@ -0,0 +1,112 @@
+package wiseboard.repository;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+final class LogBlock {
+
+    static final byte BLOCK = 5;
+
+    private static final int FIXED_PAYLOAD_SIZE = 1 + 4;
+    private static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+    private static final int MAX_RAW_SIZE = 64 * 1024 * 1024;
+
+    private LogBlock() {
+    }
+
+    static boolean IsBlock(ByteBuffer buffer) {
+        return buffer.remaining() > LogRecord.HEADER_SIZE
+                && buffer.get(buffer.position() + LogRecord.HEADER_SIZE) == BLOCK;
+    }
+
+    static ByteBuffer Encode(byte[] compressed, int length, int rawSize) {
+        int payloadSize = FIXED_PAYLOAD_SIZE + length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(LogRecord.HEADER_SIZE + payloadSize);
+        buffer.putInt(payloadSize);
+        buffer.putInt(0);
+        buffer.put(BLOCK);
+        buffer.putInt(rawSize);
+        buffer.put(compressed, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), LogRecord.HEADER_SIZE, payloadSize);
+        buffer.putInt(4, (int) crc.getValue());
+
+        buffer.flip();
+        return buffer;
+    }
+
+    static ByteBuffer Decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        int payloadSize = buffer.getInt(start);
+        int checksum = buffer.getInt(start + 4);
+
+        if (payloadSize < FIXED_PAYLOAD_SIZE || payloadSize > MAX_PAYLOAD_SIZE
+                || buffer.remaining() < LogRecord.HEADER_SIZE + payloadSize) {
+            return null;
+        }
+
+        ByteBuffer payload = buffer.slice(start + LogRecord.HEADER_SIZE, payloadSize);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        payload.position(1);
+        int rawSize = payload.getInt();
+
+        if (rawSize < 0 || rawSize > MAX_RAW_SIZE) {
+            return null;
+        }
+
+        byte[] raw = Inflate(payload, rawSize);
+
+        if (raw == null) {
+            return null;
+        }
+
+        buffer.position(start + LogRecord.HEADER_SIZE + payloadSize);
+        return ByteBuffer.wrap(raw);
+    }
+
+    private static byte[] Inflate(ByteBuffer compressed, int rawSize) {
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+        Inflater inflater = new Inflater(true);
+
+        try {
+            byte[] raw = new byte[rawSize];
+            int size = 0;
+            inflater.setInput(compressed);
+
+            while (size < rawSize && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, size, rawSize - size);
+
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return null;
+                }
+
+                size += inflated;
+            }
+
+            if (size != rawSize) {
+                return null;
+            }
+
+            failed = false;
+            return raw;
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+            WiseMetrics.Record(Metric.DECOMPRESS, started, failed);
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import wiseboard.domain.WiseQuote;
+import wiseboard.jfr.LogAppendEvent;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
+
+class LogQuoteStorage implements QuoteStorage {
+
+    private static final String CREATE_DB_DIR_ERROR = "DB 디렉토리 생성에 실패했습니다.";
+    private static final String READ_SEGMENT_ERROR = "로그 세그먼트 읽기에 실패했습니다: ";
+    private static final String CORRUPTED_SEGMENT_ERROR = "로그 세그먼트가 손상되었습니다: ";
+    private static final String WRITE_SEGMENT_ERROR = "로그 세그먼트 저장에 실패했습니다: ";
+    private static final String RECOVER_COMPACTION_ERROR = "로그 압축 복구에 실패했습니다.";
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+
+    private static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final int MIN_SEALED_SEGMENTS = 2;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final Path dbDir;
+    private final long segmentSize;
+    private final TreeSet<Long> sealed;
+    private final ExecutorService compactor;
+    private final GroupCommitter committer;
+    private final ReentrantLock appendLock;
+    private final BlockCompressor compressor;
+
+    private volatile FileChannel active;
+    private long activeSeq;
+    private long activeSize;
+    private int lastId;
+    private long totalRecords;
+    private long garbageRecords;
+    private boolean compacting;
+
+    LogQuoteStorage(Path dbDir) {
+        this(dbDir, DEFAULT_SEGMENT_SIZE, DurabilityPolicy.ASYNC);
+    }
+
+    LogQuoteStorage(Path dbDir, DurabilityPolicy policy) {
+        this(dbDir, DEFAULT_SEGMENT_SIZE, policy);
+    }
+
+    LogQuoteStorage(Path dbDir, DurabilityPolicy policy, BlockCompressor compressor) {
+        this(dbDir, DEFAULT_SEGMENT_SIZE, policy, compressor);
+    }
+
+    LogQuoteStorage(Path dbDir, long segmentSize) {
+        this(dbDir, segmentSize, DurabilityPolicy.ASYNC);
+    }
+
+    LogQuoteStorage(Path dbDir, long segmentSize, DurabilityPolicy policy) {
+        this(dbDir, segmentSize, policy, null);
+    }
+
+    LogQuoteStorage(Path dbDir, long segmentSize, DurabilityPolicy policy, BlockCompressor compressor) {
+        this.dbDir = dbDir;
+        this.segmentSize = segmentSize;
+        this.sealed = new TreeSet<>();
+        this.compactor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "wise-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.committer = new GroupCommitter(policy, () -> active.force(false));
+        this.appendLock = new ReentrantLock();
+        this.compressor = compressor;
+
+        EnsureDbDir();
+    }
+
+    @Override
+    public LoadResult Load(QuoteIndex quotes) {
+        RecoverCompaction();
+
+        List<Long> segments = ListSegments(SEGMENT_SUFFIX);
+        ReplayFrom(segments, 0, 0, quotes);
+
+        return new LoadResult(lastId, segments.size());
+    }
+
+    @Override
+    public LoadResult LoadAfter(QuoteIndex quotes, StorageMark mark) {
+        RecoverCompaction();
+
+        List<Long> segments = ListSegments(SEGMENT_SUFFIX);
+        int start = segments.indexOf(mark.sequence());
+
+        if (start < 0 || !IsOriginalSegment(mark)) {
+            return null;
+        }
+
+        totalRecords = quotes.Size();
+        ReplayFrom(segments, start, mark.position(), quotes);
+
+        return new LoadResult(lastId, segments.size() - start);
+    }
+
+    @Override
+    public StorageMark Mark() {
+        appendLock.lock();
+
+        try {
+            return new StorageMark(activeSeq, activeSize);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void WriteRegister(WiseQuote quote) {
+        long ticket;
+
+        appendLock.lock();
+
+        try {
+            lastId = Math.max(lastId, quote.id());
+            Append(LogRecord.Register(quote, lastId));
+            ticket = committer.Issue();
+        } finally {
+            appendLock.unlock();
+        }
+
+        committer.Await(ticket);
+    }
+
+    @Override
+    public void WriteModify(WiseQuote quote) {
+        long ticket;
+
+        appendLock.lock();
+
+        try {
+            Append(LogRecord.Modify(quote, lastId));
+            ticket = committer.Issue();
+        } finally {
+            appendLock.unlock();
+        }
+
+        CountGarbage(1);
+        committer.Await(ticket);
+    }
+
+    @Override
+    public void WriteDelete(int id) {
+        long ticket;
+
+        appendLock.lock();
+
+        try {
+            lastId = Math.max(lastId, id);
+            Append(LogRecord.Delete(id, lastId));
+            ticket = committer.Issue();
+        } finally {
+            appendLock.unlock();
+        }
+
+        CountGarbage(2);
+        committer.Await(ticket);
+    }
+
+    @Override
+    public void BeginBatch() {
+        committer.BeginBatch();
+    }
+
+    @Override
+    public void CommitBatch() {
+        committer.CommitBatch();
+    }
+
+    @Override
+    public void Close() {
+        committer.Close();
+        compactor.shutdown();
+
+        try {
+            compactor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            active.close();
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SEGMENT_ERROR + activeSeq);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void AwaitCompaction() {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (Exception e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized int SegmentCount() {
+        return sealed.size() + 1;
+    }
+
+    private void Append(LogRecord record) {
+        ByteBuffer buffer = record.Encode();
+
+        if (activeSize > 0 && activeSize + buffer.remaining() > segmentSize) {
+            Roll();
+        }
+
+        LogAppendEvent event = new LogAppendEvent();
+        event.begin();
+        long started = WiseMetrics.Start();
+        boolean failed = true;
+        int bytes = buffer.remaining();
+
+        try {
+            while (buffer.hasRemaining()) {
+                activeSize += active.write(buffer);
+            }
+
+            failed = false;
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SEGMENT_ERROR + activeSeq);
+        } finally {
+            WiseMetrics.Record(Metric.LOG_APPEND, started, failed);
+            event.id = record.id();
+            event.type = record.type();
+            event.bytes = bytes;
+            event.commit();
+        }
+
+        synchronized (this) {
+            totalRecords++;
+        }
+    }
+
+    private void Roll() {
+        committer.SyncNow();
+
+        try {
+            active.close();
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SEGMENT_ERROR + activeSeq);
+        }
+
+        synchronized (this) {
+            sealed.add(activeSeq);
+        }
+
+        OpenActive(activeSeq + 1);
+    }
+
+    private void OpenActive(long seq) {
+        Path path = SegmentPath(seq, SEGMENT_SUFFIX);
+
+        try {
+            boolean created = !Files.exists(path);
+            this.active = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            this.activeSize = active.size();
+            this.activeSeq = seq;
+
+            if (created && !committer.IsAsync()) {
+                GroupCommitter.SyncDirectory(dbDir);
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SEGMENT_ERROR + seq);
+        }
+    }
+
+    private synchronized void CountGarbage(int records) {
+        garbageRecords += records;
+
+        if (compacting || sealed.size() < MIN_SEALED_SEGMENTS || garbageRecords * 2 <= totalRecords) {
+            return;
+        }
+
+        compacting = true;
+        List<Long> segments = new ArrayList<>(sealed);
+        compactor.submit(() -> Compact(segments));
+    }
+
+    private void ReplayFrom(List<Long> segments, int start, long position, QuoteIndex quotes) {
+        int i = start;
+
+        while (i < segments.size()) {
+            boolean last = i == segments.size() - 1;
+            Replay(segments.get(i), i == start ? position : 0, quotes, last);
+            i++;
+        }
+
+        if (segments.isEmpty()) {
+            OpenActive(1);
+            return;
+        }
+
+        sealed.addAll(segments.subList(0, segments.size() - 1));
+        OpenActive(segments.get(segments.size() - 1));
+    }
+
+    private boolean IsOriginalSegment(StorageMark mark) {
+        Path path = SegmentPath(mark.sequence(), SEGMENT_SUFFIX);
+
+        try {
+            if (Files.size(path) < mark.position()) {
+                return false;
+            }
+
+            LogRecord first = new LogReader(path).Next();
+            return first == null || first.type() != LogRecord.META;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void Replay(long seq, long position, QuoteIndex quotes, boolean last) {
+        Path path = SegmentPath(seq, SEGMENT_SUFFIX);
+
+        try {
+            LogReader reader = new LogReader(path, position);
+            LogRecord record = reader.Next();
+
+            while (record != null) {
+                Apply(record, quotes);
+                record = reader.Next();
+            }
+
+            if (!reader.HasTornTail()) {
+                return;
+            }
+
+            if (!last) {
+                throw new StorageException(ERROR_PREFIX + CORRUPTED_SEGMENT_ERROR + path.getFileName());
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(reader.Position());
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + READ_SEGMENT_ERROR + path.getFileName());
+        }
+    }
+
+    private void Apply(LogRecord record, QuoteIndex quotes) {
+        lastId = Math.max(lastId, record.lastId());
+        totalRecords++;
+
+        if (record.type() == LogRecord.REGISTER) {
+            quotes.Add(record.ToQuote());
+            return;
+        }
+
+        if (record.type() == LogRecord.MODIFY) {
+            garbageRecords++;
+
+            if (!quotes.Replace(record.ToQuote())) {
+                quotes.Add(record.ToQuote());
+            }
+
+            return;
+        }
+
+        if (record.type() == LogRecord.DELETE) {
+            garbageRecords += 2;
+            quotes.Remove(record.id());
+        }
+    }
+
+    private void Compact(List<Long> segments) {
+        long upTo = segments.get(segments.size() - 1);
+        Path temp = SegmentPath(upTo, COMPACTING_SUFFIX);
+        Path compacted = SegmentPath(upTo, COMPACTED_SUFFIX);
+
+        try {
+            QuoteIndex live = new QuoteIndex();
+            int maxLastId = 0;
+            long read = 0;
+            int i = 0;
+
+            while (i < segments.size()) {
+                LogReader reader = new LogReader(SegmentPath(segments.get(i), SEGMENT_SUFFIX));
+                LogRecord record = reader.Next();
+
+                while (record != null) {
+                    maxLastId = Math.max(maxLastId, record.lastId());
+                    ApplyLive(record, live);
+                    read++;
+                    record = reader.Next();
+                }
+
+                i++;
+            }
+
+            WiseQuote[] quotes = live.ToArrayAsc();
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                WriteFully(out, LogRecord.Meta(maxLastId).Encode());
+
+                if (compressor == null) {
+                    WriteRecords(out, quotes, maxLastId);
+                } else {
+                    WriteBlocks(out, quotes, maxLastId);
+                }
+
+                out.force(true);
+            }
+
+            Files.move(temp, compacted, StandardCopyOption.ATOMIC_MOVE);
+            GroupCommitter.SyncDirectory(dbDir);
+            FinishCompaction(upTo, compacted);
+
+            synchronized (this) {
+                long dropped = read - quotes.length - 1;
+                sealed.removeAll(segments);
+                sealed.add(upTo);
+                totalRecords -= dropped;
+                garbageRecords = Math.max(0, garbageRecords - dropped);
+            }
+        } catch (IOException | StorageException | IllegalArgumentException e) {
+            DeleteQuietly(temp);
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+    }
+
+    private void WriteRecords(FileChannel out, WiseQuote[] quotes, int maxLastId) throws IOException {
+        int i = 0;
+
+        while (i < quotes.length) {
+            WriteFully(out, LogRecord.Register(quotes[i], maxLastId).Encode());
+            i++;
+        }
+    }
+
+    private void WriteBlocks(FileChannel out, WiseQuote[] quotes, int maxLastId) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(BlockCompressor.BLOCK_SIZE << 1);
+        int i = 0;
+
+        while (i < quotes.length) {
+            ByteBuffer record = LogRecord.Register(quotes[i], maxLastId).Encode();
+            raw.write(record.array(), 0, record.limit());
+            i++;
+
+            if (raw.size() >= BlockCompressor.BLOCK_SIZE || i == quotes.length) {
+                WriteFully(out, compressor.Block(raw.toByteArray()));
+                raw.reset();
+            }
+        }
+    }
+
+    private void ApplyLive(LogRecord record, QuoteIndex live) {
+        if (record.type() == LogRecord.REGISTER || record.type() == LogRecord.MODIFY) {
+            if (!live.Replace(record.ToQuote())) {
+                live.Add(record.ToQuote());
+            }
+
+            return;
+        }
+
+        if (record.type() == LogRecord.DELETE) {
+            live.Remove(record.id());
+        }
+    }
+
+    private void FinishCompaction(long upTo, Path compacted) throws IOException {
+        List<Long> segments = ListSegments(SEGMENT_SUFFIX);
+        int i = 0;
+
+        while (i < segments.size() && segments.get(i) <= upTo) {
+            Files.deleteIfExists(SegmentPath(segments.get(i), SEGMENT_SUFFIX));
+            i++;
+        }
+
+        Files.move(compacted, SegmentPath(upTo, SEGMENT_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        GroupCommitter.SyncDirectory(dbDir);
+    }
+
+    private void RecoverCompaction() {
+        List<Long> unfinished = ListSegments(COMPACTING_SUFFIX);
+        List<Long> finished = ListSegments(COMPACTED_SUFFIX);
+        int i = 0;
+
+        try {
+            while (i < unfinished.size()) {
+                Files.deleteIfExists(SegmentPath(unfinished.get(i), COMPACTING_SUFFIX));
+                i++;
+            }
+
+            i = 0;
+
+            while (i < finished.size()) {
+                FinishCompaction(finished.get(i), SegmentPath(finished.get(i), COMPACTED_SUFFIX));
+                i++;
+            }
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + RECOVER_COMPACTION_ERROR);
+        }
+    }
+
+    private List<Long> ListSegments(String suffix) {
+        List<Long> segments = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dbDir, SEGMENT_PREFIX + "*" + suffix)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                String seq = name.substring(SEGMENT_PREFIX.length(), name.length() - suffix.length());
+                segments.add(Long.parseLong(seq));
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new StorageException(ERROR_PREFIX + READ_SEGMENT_ERROR + dbDir);
+        }
+
+        segments.sort(null);
+        return segments;
+    }
+
+    private Path SegmentPath(long seq, String suffix) {
+        return dbDir.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, seq, suffix));
+    }
+
+    private void WriteFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void DeleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void EnsureDbDir() {
+        try {
+            Files.createDirectories(dbDir);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + CREATE_DB_DIR_ERROR);
+        }
+    }
+}
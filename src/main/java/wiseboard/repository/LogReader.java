@@ -0,0 +1,54 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+class LogReader {
+
+    private final MappedByteBuffer buffer;
+    private final long offset;
+
+    private ByteBuffer block;
+
+    LogReader(Path path) throws IOException {
+        this(path, 0);
+    }
+
+    LogReader(Path path, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.offset = Math.min(offset, channel.size());
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, this.offset, channel.size() - this.offset);
+        }
+    }
+
+    LogRecord Next() {
+        if (block != null && block.hasRemaining()) {
+            return LogRecord.Decode(block);
+        }
+
+        block = null;
+
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        if (LogBlock.IsBlock(buffer)) {
+            block = LogBlock.Decode(buffer);
+            return block == null ? null : Next();
+        }
+
+        return LogRecord.Decode(buffer);
+    }
+
+    boolean HasTornTail() {
+        return buffer.hasRemaining();
+    }
+
+    long Position() {
+        return offset + buffer.position();
+    }
+}
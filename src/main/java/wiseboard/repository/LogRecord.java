@@ -0,0 +1,115 @@
+package wiseboard.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import wiseboard.domain.WiseQuote;
+
+record LogRecord(byte type, int id, int lastId, String author, String content) {
+
+    static final byte REGISTER = 1;
+    static final byte MODIFY = 2;
+    static final byte DELETE = 3;
+    static final byte META = 4;
+
+    static final int HEADER_SIZE = 8;
+    private static final int FIXED_PAYLOAD_SIZE = 1 + 4 + 4 + 4 + 4;
+    private static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+    static LogRecord Register(WiseQuote quote, int lastId) {
+        return new LogRecord(REGISTER, quote.id(), lastId, quote.author(), quote.content());
+    }
+
+    static LogRecord Modify(WiseQuote quote, int lastId) {
+        return new LogRecord(MODIFY, quote.id(), lastId, quote.author(), quote.content());
+    }
+
+    static LogRecord Delete(int id, int lastId) {
+        return new LogRecord(DELETE, id, lastId, "", "");
+    }
+
+    static LogRecord Meta(int lastId) {
+        return new LogRecord(META, 0, lastId, "", "");
+    }
+
+    WiseQuote ToQuote() {
+        return new WiseQuote(id, author, content);
+    }
+
+    ByteBuffer Encode() {
+        byte[] authorBytes = author.getBytes(StandardCharsets.UTF_8);
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        int payloadSize = FIXED_PAYLOAD_SIZE + authorBytes.length + contentBytes.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize);
+        buffer.putInt(payloadSize);
+        buffer.putInt(0);
+        buffer.put(type);
+        buffer.putInt(id);
+        buffer.putInt(lastId);
+        buffer.putInt(authorBytes.length);
+        buffer.put(authorBytes);
+        buffer.putInt(contentBytes.length);
+        buffer.put(contentBytes);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, payloadSize);
+        buffer.putInt(4, (int) crc.getValue());
+
+        buffer.flip();
+        return buffer;
+    }
+
+    static LogRecord Decode(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+
+        int start = buffer.position();
+        int payloadSize = buffer.getInt(start);
+        int checksum = buffer.getInt(start + 4);
+
+        if (payloadSize < FIXED_PAYLOAD_SIZE || payloadSize > MAX_PAYLOAD_SIZE
+                || buffer.remaining() < HEADER_SIZE + payloadSize) {
+            return null;
+        }
+
+        ByteBuffer payload = buffer.slice(start + HEADER_SIZE, payloadSize);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        byte type = payload.get();
+        int id = payload.getInt();
+        int lastId = payload.getInt();
+        String author = ReadString(payload);
+        String content = ReadString(payload);
+
+        if (author == null || content == null) {
+            return null;
+        }
+
+        buffer.position(start + HEADER_SIZE + payloadSize);
+        return new LogRecord(type, id, lastId, author, content);
+    }
+
+    private static String ReadString(ByteBuffer payload) {
+        if (payload.remaining() < 4) {
+            return null;
+        }
+
+        int length = payload.getInt();
+
+        if (length < 0 || length > payload.remaining()) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
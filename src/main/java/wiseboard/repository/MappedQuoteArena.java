@@ -0,0 +1,155 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import wiseboard.domain.WiseQuote;
+
+class MappedQuoteArena {
+
+    private static final String OPEN_ARENA_ERROR = "명언 매핑 파일 생성에 실패했습니다: ";
+    private static final String TOO_LARGE_QUOTE_ERROR = "명언이 매핑 블록보다 큽니다: ";
+
+    private static final int HEADER_SIZE = 12;
+    private static final long MIN_COMPACT_BYTES = 1L << 20;
+
+    private final Path file;
+    private final int chunkSize;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> chunks;
+    private long end;
+    private long liveBytes;
+    private long garbageBytes;
+
+    MappedQuoteArena(Path file, int chunkSize) {
+        this.file = file;
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayList<>();
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + OPEN_ARENA_ERROR + file.getFileName());
+        }
+    }
+
+    long Append(WiseQuote quote) {
+        byte[] author = quote.author().getBytes(StandardCharsets.UTF_8);
+        byte[] content = quote.content().getBytes(StandardCharsets.UTF_8);
+        long ref = Reserve(HEADER_SIZE + author.length + content.length, quote.id());
+        MappedByteBuffer chunk = chunks.get(ChunkOf(ref));
+        int position = PositionOf(ref);
+
+        chunk.putInt(position, quote.id());
+        chunk.putInt(position + 4, author.length);
+        chunk.put(position + 8, author);
+        chunk.putInt(position + 8 + author.length, content.length);
+        chunk.put(position + HEADER_SIZE + author.length, content);
+
+        return ref;
+    }
+
+    long CopyFrom(MappedQuoteArena source, long sourceRef) {
+        MappedByteBuffer from = source.chunks.get(source.ChunkOf(sourceRef));
+        int sourcePosition = source.PositionOf(sourceRef);
+        int size = source.RecordSize(from, sourcePosition);
+        long ref = Reserve(size, from.getInt(sourcePosition));
+
+        chunks.get(ChunkOf(ref)).put(PositionOf(ref), from, sourcePosition, size);
+        return ref;
+    }
+
+    WiseQuote Read(long ref) {
+        MappedByteBuffer chunk = chunks.get(ChunkOf(ref));
+        int position = PositionOf(ref);
+        int id = chunk.getInt(position);
+        int authorLength = chunk.getInt(position + 4);
+        Objects.checkFromIndexSize(position + 8, authorLength, chunkSize);
+        byte[] author = new byte[authorLength];
+        chunk.get(position + 8, author);
+
+        int contentLength = chunk.getInt(position + 8 + authorLength);
+        Objects.checkFromIndexSize(position + HEADER_SIZE + authorLength, contentLength, chunkSize);
+        byte[] content = new byte[contentLength];
+        chunk.get(position + HEADER_SIZE + authorLength, content);
+
+        return new WiseQuote(id, new String(author, StandardCharsets.UTF_8), new String(content, StandardCharsets.UTF_8));
+    }
+
+    void Release(long ref) {
+        int size = RecordSize(chunks.get(ChunkOf(ref)), PositionOf(ref));
+        liveBytes -= size;
+        garbageBytes += size;
+    }
+
+    boolean NeedsCompaction() {
+        return garbageBytes >= MIN_COMPACT_BYTES && garbageBytes > liveBytes;
+    }
+
+    long LiveBytes() {
+        return liveBytes;
+    }
+
+    void Close() {
+        chunks.clear();
+
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private long Reserve(int size, int id) {
+        if (size > chunkSize) {
+            throw new IllegalArgumentException(ERROR_PREFIX + TOO_LARGE_QUOTE_ERROR + id);
+        }
+
+        if (PositionOf(end) + size > chunkSize) {
+            end = (long) (ChunkOf(end) + 1) * chunkSize;
+        }
+
+        while (chunks.size() <= ChunkOf(end)) {
+            MapChunk();
+        }
+
+        long ref = end;
+        end += size;
+        liveBytes += size;
+
+        return ref;
+    }
+
+    private void MapChunk() {
+        try {
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * chunkSize, chunkSize));
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + OPEN_ARENA_ERROR + file.getFileName());
+        }
+    }
+
+    private int RecordSize(MappedByteBuffer chunk, int position) {
+        int authorLength = chunk.getInt(position + 4);
+        int contentLength = chunk.getInt(position + 8 + authorLength);
+
+        return HEADER_SIZE + authorLength + contentLength;
+    }
+
+    private int ChunkOf(long ref) {
+        return (int) (ref / chunkSize);
+    }
+
+    private int PositionOf(long ref) {
+        return (int) (ref % chunkSize);
+    }
+}
@@ -0,0 +1,155 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import wiseboard.domain.WiseQuote;
+
+class MappedQuoteSlots implements QuoteSlots {
+
+    private static final String ARENA_PREFIX = "quotes-";
+    private static final String ARENA_SUFFIX = ".arena";
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final long EMPTY = -1;
+
+    private final Path dir;
+    private final int chunkSize;
+    private MappedQuoteArena arena;
+    private long[] refs;
+    private int generation;
+
+    MappedQuoteSlots(Path dir) {
+        this(dir, DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedQuoteSlots(Path dir, int chunkSize) {
+        this.dir = dir;
+        this.chunkSize = chunkSize;
+        this.refs = new long[0];
+
+        DeleteStaleArenas();
+        this.arena = new MappedQuoteArena(ArenaPath(generation), chunkSize);
+    }
+
+    @Override
+    public WiseQuote Get(int slot, int id) {
+        if (refs[slot] == EMPTY) {
+            return null;
+        }
+
+        return arena.Read(refs[slot]);
+    }
+
+    @Override
+    public boolean IsLive(int slot) {
+        return refs[slot] != EMPTY;
+    }
+
+    @Override
+    public void Set(int slot, WiseQuote quote) {
+        if (refs[slot] != EMPTY) {
+            arena.Release(refs[slot]);
+        }
+
+        refs[slot] = arena.Append(quote);
+        CompactIfNeeded();
+    }
+
+    @Override
+    public void Clear(int slot) {
+        if (refs[slot] == EMPTY) {
+            return;
+        }
+
+        arena.Release(refs[slot]);
+        refs[slot] = EMPTY;
+        CompactIfNeeded();
+    }
+
+    @Override
+    public void Move(int from, int to) {
+        refs[to] = refs[from];
+    }
+
+    @Override
+    public void ShiftRight(int from, int length) {
+        System.arraycopy(refs, from, refs, from + 1, length - from);
+        refs[from] = EMPTY;
+    }
+
+    @Override
+    public void ClearAll(int length) {
+        Arrays.fill(refs, EMPTY);
+        Rewrite(new long[0]);
+    }
+
+    @Override
+    public void Grow(int capacity) {
+        int previous = refs.length;
+        refs = Arrays.copyOf(refs, capacity);
+        Arrays.fill(refs, previous, capacity, EMPTY);
+    }
+
+    @Override
+    public void Compacted(int length) {
+        Arrays.fill(refs, length, refs.length, EMPTY);
+    }
+
+    @Override
+    public void Close() {
+        arena.Close();
+    }
+
+    @Override
+    public long HeapBytes(int length) {
+        return QuoteFootprint.ArrayBytes((long) refs.length * Long.BYTES);
+    }
+
+    @Override
+    public long OffHeapBytes() {
+        return arena.LiveBytes();
+    }
+
+    long LiveBytes() {
+        return arena.LiveBytes();
+    }
+
+    private void CompactIfNeeded() {
+        if (arena.NeedsCompaction()) {
+            Rewrite(refs);
+        }
+    }
+
+    private void Rewrite(long[] live) {
+        MappedQuoteArena previous = arena;
+        generation++;
+        MappedQuoteArena next = new MappedQuoteArena(ArenaPath(generation), chunkSize);
+        int i = 0;
+
+        while (i < live.length) {
+            if (live[i] != EMPTY) {
+                live[i] = next.CopyFrom(previous, live[i]);
+            }
+
+            i++;
+        }
+
+        arena = next;
+        previous.Close();
+    }
+
+    private Path ArenaPath(int number) {
+        return dir.resolve(ARENA_PREFIX + number + ARENA_SUFFIX);
+    }
+
+    private void DeleteStaleArenas() {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, ARENA_PREFIX + "*" + ARENA_SUFFIX)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package wiseboard.repository;
+
+public record MemoryUsage(int quoteCount, int authorCount, long legacyBytes, long heapBytes, long offHeapBytes) {
+
+    public long LegacyBytesPerQuote() {
+        return quoteCount == 0 ? 0 : legacyBytes / quoteCount;
+    }
+
+    public long BytesPerQuote() {
+        return quoteCount == 0 ? 0 : (heapBytes + offHeapBytes) / quoteCount;
+    }
+}
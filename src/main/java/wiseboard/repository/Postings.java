@@ -0,0 +1,198 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+
+class Postings {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MIN_RECENT_CAPACITY = 16;
+
+    private int[] ids;
+    private int[] weights;
+    private int size;
+    private int deadCount;
+    private int[] recentIds;
+    private int[] recentWeights;
+    private int recentSize;
+
+    Postings() {
+        this.ids = new int[INITIAL_CAPACITY];
+        this.weights = new int[INITIAL_CAPACITY];
+        this.recentIds = new int[0];
+        this.recentWeights = new int[0];
+    }
+
+    void Put(int id, int weight) {
+        if (size == 0 || id > ids[size - 1]) {
+            EnsureCapacity(size + 1);
+            ids[size] = id;
+            weights[size] = weight;
+            size++;
+            return;
+        }
+
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position >= 0) {
+            if (weights[position] == 0) {
+                deadCount--;
+            }
+
+            weights[position] = weight;
+            return;
+        }
+
+        position = Arrays.binarySearch(recentIds, 0, recentSize, id);
+
+        if (position >= 0) {
+            recentWeights[position] = weight;
+            return;
+        }
+
+        position = -position - 1;
+        EnsureRecentCapacity(recentSize + 1);
+
+        System.arraycopy(recentIds, position, recentIds, position + 1, recentSize - position);
+        System.arraycopy(recentWeights, position, recentWeights, position + 1, recentSize - position);
+
+        recentIds[position] = id;
+        recentWeights[position] = weight;
+        recentSize++;
+
+        if (recentSize > RecentLimit()) {
+            Compact();
+        }
+    }
+
+    void Remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position >= 0) {
+            if (weights[position] == 0) {
+                return;
+            }
+
+            weights[position] = 0;
+            deadCount++;
+
+            if (deadCount > size >> 1) {
+                Compact();
+            }
+
+            return;
+        }
+
+        position = Arrays.binarySearch(recentIds, 0, recentSize, id);
+
+        if (position < 0) {
+            return;
+        }
+
+        System.arraycopy(recentIds, position + 1, recentIds, position, recentSize - position - 1);
+        System.arraycopy(recentWeights, position + 1, recentWeights, position, recentSize - position - 1);
+        recentSize--;
+    }
+
+    void AppendAll(Postings other) {
+        Compact();
+        other.Compact();
+        EnsureCapacity(size + other.size);
+
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        System.arraycopy(other.weights, 0, weights, size, other.size);
+        size += other.size;
+    }
+
+    int WeightOf(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position >= 0) {
+            return weights[position];
+        }
+
+        position = Arrays.binarySearch(recentIds, 0, recentSize, id);
+
+        if (position < 0) {
+            return 0;
+        }
+
+        return recentWeights[position];
+    }
+
+    int IdAt(int index) {
+        return index < size ? ids[index] : recentIds[index - size];
+    }
+
+    int WeightAt(int index) {
+        return index < size ? weights[index] : recentWeights[index - size];
+    }
+
+    int Length() {
+        return size + recentSize;
+    }
+
+    int Size() {
+        return size - deadCount + recentSize;
+    }
+
+    private int RecentLimit() {
+        return Math.max(MIN_RECENT_CAPACITY, (int) Math.sqrt(size));
+    }
+
+    private void Compact() {
+        if (deadCount == 0 && recentSize == 0) {
+            return;
+        }
+
+        int live = Size();
+        int[] mergedIds = new int[Math.max(INITIAL_CAPACITY, live)];
+        int[] mergedWeights = new int[mergedIds.length];
+        int merged = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < size || j < recentSize) {
+            if (j == recentSize || (i < size && ids[i] < recentIds[j])) {
+                if (weights[i] != 0) {
+                    mergedIds[merged] = ids[i];
+                    mergedWeights[merged] = weights[i];
+                    merged++;
+                }
+
+                i++;
+                continue;
+            }
+
+            mergedIds[merged] = recentIds[j];
+            mergedWeights[merged] = recentWeights[j];
+            merged++;
+            j++;
+        }
+
+        ids = mergedIds;
+        weights = mergedWeights;
+        size = merged;
+        deadCount = 0;
+        recentSize = 0;
+    }
+
+    private void EnsureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+
+        int capacity = Math.max(required, ids.length << 1);
+        ids = Arrays.copyOf(ids, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+    }
+
+    private void EnsureRecentCapacity(int required) {
+        if (required <= recentIds.length) {
+            return;
+        }
+
+        int capacity = Math.max(Math.max(required, MIN_RECENT_CAPACITY), recentIds.length << 1);
+        recentIds = Arrays.copyOf(recentIds, capacity);
+        recentWeights = Arrays.copyOf(recentWeights, capacity);
+    }
+}
@@ -0,0 +1,94 @@
+package wiseboard.repository;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import wiseboard.domain.WiseQuote;
+
+class QuoteCache {
+
+    private static final int ENTRY_BYTES = 40;
+
+    private final long capacityBytes;
+    private final LinkedHashMap<Integer, WiseQuote> entries;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    QuoteCache(long capacityBytes) {
+        this.capacityBytes = Math.max(1, capacityBytes);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    synchronized WiseQuote Get(int id) {
+        WiseQuote quote = entries.get(id);
+
+        if (quote == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+
+        return quote;
+    }
+
+    synchronized void Put(WiseQuote quote) {
+        WiseQuote previous = entries.put(quote.id(), quote);
+
+        if (previous != null) {
+            bytes -= EntryBytes(previous);
+        }
+
+        bytes += EntryBytes(quote);
+        Evict();
+    }
+
+    synchronized void Remove(int id) {
+        WiseQuote removed = entries.remove(id);
+
+        if (removed != null) {
+            bytes -= EntryBytes(removed);
+        }
+    }
+
+    synchronized void Clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    synchronized long Hits() {
+        return hits;
+    }
+
+    synchronized long Misses() {
+        return misses;
+    }
+
+    synchronized long Evictions() {
+        return evictions;
+    }
+
+    synchronized long Bytes() {
+        return bytes;
+    }
+
+    synchronized int Size() {
+        return entries.size();
+    }
+
+    private void Evict() {
+        Iterator<Map.Entry<Integer, WiseQuote>> eldest = entries.entrySet().iterator();
+
+        while (bytes > capacityBytes && entries.size() > 1) {
+            WiseQuote evicted = eldest.next().getValue();
+            eldest.remove();
+            bytes -= EntryBytes(evicted);
+            evictions++;
+        }
+    }
+
+    private static long EntryBytes(WiseQuote quote) {
+        return ENTRY_BYTES + QuoteFootprint.LegacyQuoteBytes(quote);
+    }
+}
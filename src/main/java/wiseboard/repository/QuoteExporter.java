@@ -0,0 +1,73 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+final class QuoteExporter {
+
+    private static final String EXPORT_ERROR = "명언 내보내기에 실패했습니다: ";
+
+    private static final byte[] ARRAY_START = "[\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private QuoteExporter() {
+    }
+
+    static int Export(Path file, boolean lines, QuoteIndex quotes) {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int[] written = {0};
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            JsonWriter writer = new JsonWriter(channel, ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+            if (lines) {
+                quotes.ForEachAsc(quote -> {
+                    QuoteJson.WriteLine(writer, quote);
+                    written[0]++;
+                });
+            } else {
+                writer.Raw(ARRAY_START);
+
+                quotes.ForEachAsc(quote -> {
+                    if (written[0] > 0) {
+                        writer.Raw(SEPARATOR);
+                    }
+
+                    QuoteJson.WriteEntry(writer, quote);
+                    written[0]++;
+                });
+
+                if (written[0] > 0) {
+                    writer.Raw(NEW_LINE);
+                }
+
+                writer.Raw(ARRAY_END);
+            }
+
+            writer.Flush();
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + EXPORT_ERROR + file.getFileName());
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + EXPORT_ERROR + file.getFileName());
+        }
+
+        return written[0];
+    }
+}
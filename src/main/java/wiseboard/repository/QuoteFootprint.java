@@ -0,0 +1,54 @@
+package wiseboard.repository;
+
+import wiseboard.domain.WiseQuote;
+
+final class QuoteFootprint {
+
+    static final int REFERENCE_BYTES = 4;
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int STRING_BYTES = 24;
+    private static final int BOXED_INTEGER_BYTES = 16;
+    private static final int ALIGNMENT = 8;
+
+    private QuoteFootprint() {
+    }
+
+    static long LegacyQuoteBytes(WiseQuote quote) {
+        return REFERENCE_BYTES
+                + Align(OBJECT_HEADER_BYTES + 3L * REFERENCE_BYTES)
+                + BOXED_INTEGER_BYTES
+                + StringBytes(quote.author())
+                + StringBytes(quote.content());
+    }
+
+    static long QuoteObjectBytes(WiseQuote quote) {
+        return Align(OBJECT_HEADER_BYTES + Integer.BYTES + 2L * REFERENCE_BYTES);
+    }
+
+    static long StringBytes(String text) {
+        return STRING_BYTES + ArrayBytes(IsLatin1(text) ? text.length() : 2L * text.length());
+    }
+
+    static long ArrayBytes(long payload) {
+        return Align(ARRAY_HEADER_BYTES + payload);
+    }
+
+    private static boolean IsLatin1(String text) {
+        int i = 0;
+
+        while (i < text.length()) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+
+            i++;
+        }
+
+        return true;
+    }
+
+    private static long Align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,80 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import wiseboard.domain.WiseQuote;
+
+class QuoteImport implements Consumer<WiseQuote> {
+
+    private final WiseQuote[] pending;
+    private final Consumer<WiseQuote> validator;
+    private final Consumer<QuoteImport> flusher;
+
+    private int pendingCount;
+    private int importedCount;
+    private int rejectedCount;
+    private int[] idRanges;
+    private int rangeLength;
+
+    QuoteImport(int batchSize, Consumer<WiseQuote> validator, Consumer<QuoteImport> flusher) {
+        this.pending = new WiseQuote[batchSize];
+        this.validator = validator;
+        this.flusher = flusher;
+        this.idRanges = new int[2];
+    }
+
+    @Override
+    public void accept(WiseQuote quote) {
+        try {
+            validator.accept(quote);
+        } catch (IllegalArgumentException e) {
+            rejectedCount++;
+            return;
+        }
+
+        pending[pendingCount] = quote;
+        pendingCount++;
+
+        if (pendingCount == pending.length) {
+            Flush();
+        }
+    }
+
+    void Flush() {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        flusher.accept(this);
+        pendingCount = 0;
+    }
+
+    WiseQuote[] Pending() {
+        return pending;
+    }
+
+    int PendingCount() {
+        return pendingCount;
+    }
+
+    void Imported(int fromId, int toId) {
+        importedCount += toId - fromId + 1;
+
+        if (rangeLength > 0 && idRanges[rangeLength - 1] + 1 == fromId) {
+            idRanges[rangeLength - 1] = toId;
+            return;
+        }
+
+        if (rangeLength == idRanges.length) {
+            idRanges = Arrays.copyOf(idRanges, idRanges.length << 1);
+        }
+
+        idRanges[rangeLength] = fromId;
+        idRanges[rangeLength + 1] = toId;
+        rangeLength += 2;
+    }
+
+    ImportReport Report(long elapsedMillis) {
+        return new ImportReport(importedCount, rejectedCount, Arrays.copyOf(idRanges, rangeLength), elapsedMillis);
+    }
+}
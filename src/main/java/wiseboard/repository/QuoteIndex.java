@@ -0,0 +1,347 @@
+package wiseboard.repository;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+
+class QuoteIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACT_SIZE = 64;
+
+    private final IntIntMap positions;
+    private final FenwickTree live;
+    private final QuoteSlots quotes;
+    private int[] ids;
+    private int length;
+    private int liveCount;
+
+    QuoteIndex() {
+        this(new HeapQuoteSlots());
+    }
+
+    QuoteIndex(QuoteSlots quotes) {
+        this.positions = new IntIntMap();
+        this.live = new FenwickTree(INITIAL_CAPACITY);
+        this.ids = new int[INITIAL_CAPACITY];
+        this.quotes = quotes;
+        quotes.Grow(INITIAL_CAPACITY);
+    }
+
+    static QuoteIndex Mapped(Path dir) {
+        return new QuoteIndex(new MappedQuoteSlots(dir));
+    }
+
+    static QuoteIndex Compact(boolean encodeContent) {
+        return new QuoteIndex(new CompactQuoteSlots(encodeContent));
+    }
+
+    static QuoteIndex Lazy(CachedQuoteSlots slots) {
+        return new QuoteIndex(slots);
+    }
+
+    void AddId(int id) {
+        EnsureCapacity(length + 1);
+
+        ids[length] = id;
+        ((CachedQuoteSlots) quotes).Reference(length, id);
+        positions.Put(id, length);
+        live.Add(length, 1);
+
+        length++;
+        liveCount++;
+    }
+
+    void Add(WiseQuote quote) {
+        int id = quote.id();
+
+        if (length > 0 && id <= ids[length - 1]) {
+            Insert(quote);
+            return;
+        }
+
+        EnsureCapacity(length + 1);
+
+        ids[length] = id;
+        quotes.Set(length, quote);
+        positions.Put(id, length);
+        live.Add(length, 1);
+
+        length++;
+        liveCount++;
+    }
+
+    WiseQuote Get(int id) {
+        int position = positions.Get(id);
+
+        if (position < 0) {
+            return null;
+        }
+
+        return quotes.Get(position, ids[position]);
+    }
+
+    boolean Contains(int id) {
+        return positions.Get(id) >= 0;
+    }
+
+    boolean Replace(WiseQuote quote) {
+        int position = positions.Get(quote.id());
+
+        if (position < 0) {
+            return false;
+        }
+
+        quotes.Set(position, quote);
+        return true;
+    }
+
+    WiseQuote Remove(int id) {
+        int position = positions.Remove(id);
+
+        if (position < 0) {
+            return null;
+        }
+
+        WiseQuote removed = quotes.Get(position, ids[position]);
+        quotes.Clear(position);
+        live.Add(position, -1);
+        liveCount--;
+
+        if (length >= MIN_COMPACT_SIZE && liveCount * 2 < length) {
+            Compact();
+        }
+
+        return removed;
+    }
+
+    void Clear() {
+        quotes.ClearAll(length);
+        positions.Clear();
+        live.Reset(ids.length);
+        length = 0;
+        liveCount = 0;
+    }
+
+    int Size() {
+        return liveCount;
+    }
+
+    int LastId() {
+        if (length == 0) {
+            return 0;
+        }
+
+        return ids[length - 1];
+    }
+
+    QuotePage PageDesc(int page, int size) {
+        return PageDescBetween(0, length, page, size);
+    }
+
+    QuotePage RangePageDesc(int fromId, int toId, int page, int size) {
+        int from = LowerBound(fromId);
+        int to = toId == Integer.MAX_VALUE ? length : LowerBound(toId + 1);
+
+        return PageDescBetween(from, Math.max(from, to), page, size);
+    }
+
+    void ForEachAsc(Consumer<WiseQuote> action) {
+        int i = 0;
+
+        while (i < length) {
+            if (quotes.IsLive(i)) {
+                action.accept(quotes.Get(i, ids[i]));
+            }
+
+            i++;
+        }
+    }
+
+    int[] IdsAsc() {
+        int[] result = new int[liveCount];
+        int i = 0;
+        int n = 0;
+
+        while (i < length) {
+            if (quotes.IsLive(i)) {
+                result[n] = ids[i];
+                n++;
+            }
+
+            i++;
+        }
+
+        return result;
+    }
+
+    WiseQuote[] ToArrayAsc() {
+        WiseQuote[] result = new WiseQuote[liveCount];
+        int i = 0;
+        int n = 0;
+
+        while (i < length) {
+            if (quotes.IsLive(i)) {
+                result[n] = quotes.Get(i, ids[i]);
+                n++;
+            }
+
+            i++;
+        }
+
+        return result;
+    }
+
+    WiseQuote[] ToArrayDesc() {
+        WiseQuote[] result = new WiseQuote[liveCount];
+        int i = length - 1;
+        int n = 0;
+
+        while (i >= 0) {
+            if (quotes.IsLive(i)) {
+                result[n] = quotes.Get(i, ids[i]);
+                n++;
+            }
+
+            i--;
+        }
+
+        return result;
+    }
+
+    MemoryUsage MemoryUsage() {
+        long[] legacyBytes = {0};
+        Set<String> authors = new HashSet<>();
+
+        ForEachAsc(quote -> {
+            legacyBytes[0] += QuoteFootprint.LegacyQuoteBytes(quote);
+            authors.add(quote.author());
+        });
+
+        long heapBytes = QuoteFootprint.ArrayBytes((long) ids.length * Integer.BYTES) + quotes.HeapBytes(length);
+        return new MemoryUsage(liveCount, authors.size(), legacyBytes[0], heapBytes, quotes.OffHeapBytes());
+    }
+
+    void Close() {
+        quotes.Close();
+    }
+
+    private QuotePage PageDescBetween(int from, int to, int page, int size) {
+        int before = live.Prefix(from);
+        int total = live.Prefix(to) - before;
+        int totalPages = Math.max(1, (int) (((long) total + size - 1) / size));
+        long skip = (long) (page - 1) * size;
+
+        if (skip >= total) {
+            return new QuotePage(new WiseQuote[0], page, totalPages, total);
+        }
+
+        int count = (int) Math.min(size, total - skip);
+        WiseQuote[] rows = new WiseQuote[count];
+        int position = live.Select(before + total - (int) skip);
+        int n = 0;
+
+        while (n < count) {
+            if (quotes.IsLive(position)) {
+                rows[n] = quotes.Get(position, ids[position]);
+                n++;
+            }
+
+            position--;
+        }
+
+        return new QuotePage(rows, page, totalPages, total);
+    }
+
+    private int LowerBound(int id) {
+        int position = Arrays.binarySearch(ids, 0, length, id);
+
+        if (position < 0) {
+            return -position - 1;
+        }
+
+        return position;
+    }
+
+    private void Insert(WiseQuote quote) {
+        int id = quote.id();
+
+        if (Replace(quote)) {
+            return;
+        }
+
+        int position = Arrays.binarySearch(ids, 0, length, id);
+
+        if (position >= 0) {
+            quotes.Set(position, quote);
+            positions.Put(id, position);
+            live.Add(position, 1);
+            liveCount++;
+            return;
+        }
+
+        position = -position - 1;
+        EnsureCapacity(length + 1);
+
+        System.arraycopy(ids, position, ids, position + 1, length - position);
+        quotes.ShiftRight(position, length);
+
+        ids[position] = id;
+        quotes.Set(position, quote);
+        length++;
+        liveCount++;
+
+        Reindex(position);
+        live.Build(quotes, length);
+    }
+
+    private void Compact() {
+        int i = 0;
+        int n = 0;
+
+        while (i < length) {
+            if (quotes.IsLive(i)) {
+                ids[n] = ids[i];
+                quotes.Move(i, n);
+                n++;
+            }
+
+            i++;
+        }
+
+        quotes.Compacted(n);
+        length = n;
+
+        positions.Clear();
+        Reindex(0);
+        live.Build(quotes, length);
+    }
+
+    private void Reindex(int from) {
+        int i = from;
+
+        while (i < length) {
+            if (quotes.IsLive(i)) {
+                positions.Put(ids[i], i);
+            }
+
+            i++;
+        }
+    }
+
+    private void EnsureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+
+        int capacity = Math.max(required, ids.length << 1);
+        ids = Arrays.copyOf(ids, capacity);
+        quotes.Grow(capacity);
+        live.Reset(capacity);
+        live.Build(quotes, length);
+    }
+}
@@ -0,0 +1,131 @@
+package wiseboard.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import wiseboard.domain.WiseQuote;
+
+final class QuoteJson {
+
+    private static final String[] FIELDS = {"id", "content", "author"};
+    private static final int ID_FIELD = 0;
+    private static final int CONTENT_FIELD = 1;
+    private static final int AUTHOR_FIELD = 2;
+
+    private static final byte[] FILE_ID = Ascii("{\n  \"id\": ");
+    private static final byte[] FILE_CONTENT = Ascii(",\n  \"content\": ");
+    private static final byte[] FILE_AUTHOR = Ascii(",\n  \"author\": ");
+    private static final byte[] FILE_END = Ascii("\n}\n");
+
+    private static final byte[] ENTRY_ID = Ascii("  {\n    \"id\": ");
+    private static final byte[] ENTRY_CONTENT = Ascii(",\n    \"content\": ");
+    private static final byte[] ENTRY_AUTHOR = Ascii(",\n    \"author\": ");
+    private static final byte[] ENTRY_END = Ascii("\n  }");
+
+    private static final byte[] LINE_ID = Ascii("{\"id\":");
+    private static final byte[] LINE_CONTENT = Ascii(",\"content\":");
+    private static final byte[] LINE_AUTHOR = Ascii(",\"author\":");
+    private static final byte[] LINE_END = Ascii("}\n");
+
+    private QuoteJson() {
+    }
+
+    static WiseQuote ReadQuote(JsonReader reader) throws IOException {
+        return ReadQuote(reader, true);
+    }
+
+    static WiseQuote ReadQuote(JsonReader reader, boolean requireId) throws IOException {
+        int id = 0;
+        String content = null;
+        String author = null;
+        boolean hasId = false;
+
+        reader.Expect('{');
+
+        if (!reader.Consume('}')) {
+            do {
+                int field = reader.ReadKey(FIELDS);
+
+                if (field == ID_FIELD) {
+                    id = reader.ReadInt();
+                    hasId = true;
+                } else if (field == CONTENT_FIELD) {
+                    content = reader.ReadString();
+                } else if (field == AUTHOR_FIELD) {
+                    author = reader.ReadString();
+                } else {
+                    reader.SkipValue();
+                }
+            } while (reader.Consume(','));
+
+            reader.Expect('}');
+        }
+
+        if ((requireId && !hasId) || content == null || author == null) {
+            throw reader.Error();
+        }
+
+        return new WiseQuote(id, author, content);
+    }
+
+    static void ReadArray(JsonReader reader, Consumer<WiseQuote> action) throws IOException {
+        ReadArray(reader, true, action);
+    }
+
+    static void ReadArray(JsonReader reader, boolean requireId, Consumer<WiseQuote> action) throws IOException {
+        reader.Expect('[');
+
+        if (!reader.Consume(']')) {
+            do {
+                action.accept(ReadQuote(reader, requireId));
+            } while (reader.Consume(','));
+
+            reader.Expect(']');
+        }
+
+        if (!reader.AtEnd()) {
+            throw reader.Error();
+        }
+    }
+
+    static void ReadLines(JsonReader reader, Consumer<WiseQuote> action) throws IOException {
+        while (!reader.AtEnd()) {
+            action.accept(ReadQuote(reader, false));
+        }
+    }
+
+    static byte[] QuoteFileBytes(WiseQuote quote) {
+        JsonWriter writer = new JsonWriter();
+        writer.Raw(FILE_ID).Int(quote.id())
+                .Raw(FILE_CONTENT).String(quote.content())
+                .Raw(FILE_AUTHOR).String(quote.author())
+                .Raw(FILE_END);
+
+        return writer.ToByteArray();
+    }
+
+    static void WriteEntry(JsonWriter writer, WiseQuote quote) {
+        writer.Raw(ENTRY_ID).Int(quote.id())
+                .Raw(ENTRY_CONTENT).String(quote.content())
+                .Raw(ENTRY_AUTHOR).String(quote.author())
+                .Raw(ENTRY_END);
+    }
+
+    static void WriteLine(JsonWriter writer, WiseQuote quote) {
+        writer.Raw(LINE_ID).Int(quote.id())
+                .Raw(LINE_CONTENT).String(quote.content())
+                .Raw(LINE_AUTHOR).String(quote.author())
+                .Raw(LINE_END);
+    }
+
+    static byte[] EntryBytes(WiseQuote quote) {
+        JsonWriter writer = new JsonWriter();
+        WriteEntry(writer, quote);
+
+        return writer.ToByteArray();
+    }
+
+    private static byte[] Ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,31 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+public enum QuoteLayout {
+    FLAT("flat"),
+    SHARDED("sharded");
+
+    private static final String INVALID_LAYOUT_ERROR = "알 수 없는 파일 배치 방식입니다. 사용 가능한 값: flat, sharded";
+
+    private final String value;
+
+    QuoteLayout(String value) {
+        this.value = value;
+    }
+
+    public static QuoteLayout From(String value) {
+        QuoteLayout[] layouts = values();
+        int i = 0;
+
+        while (i < layouts.length) {
+            if (layouts[i].value.equalsIgnoreCase(value.trim())) {
+                return layouts[i];
+            }
+
+            i++;
+        }
+
+        throw new IllegalArgumentException(ERROR_PREFIX + INVALID_LAYOUT_ERROR);
+    }
+}
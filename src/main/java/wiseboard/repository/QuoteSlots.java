@@ -0,0 +1,30 @@
+package wiseboard.repository;
+
+import wiseboard.domain.WiseQuote;
+
+interface QuoteSlots {
+
+    WiseQuote Get(int slot, int id);
+
+    boolean IsLive(int slot);
+
+    void Set(int slot, WiseQuote quote);
+
+    void Clear(int slot);
+
+    void Move(int from, int to);
+
+    void ShiftRight(int from, int length);
+
+    void ClearAll(int length);
+
+    void Grow(int capacity);
+
+    void Compacted(int length);
+
+    long HeapBytes(int length);
+
+    long OffHeapBytes();
+
+    void Close();
+}
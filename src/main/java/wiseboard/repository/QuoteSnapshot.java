@@ -0,0 +1,206 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import wiseboard.domain.WiseQuote;
+
+class QuoteSnapshot {
+
+    private static final String WRITE_SNAPSHOT_ERROR = "스냅샷 파일 저장에 실패했습니다.";
+
+    private static final int MAGIC = 0x57534E50;
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2 + 1 + 4 + 8 + 8 + 4;
+    private static final int CHECKSUM_SIZE = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final Path file;
+    private final Path tempFile;
+    private final StorageMode mode;
+    private final int interval;
+    private final ExecutorService writer;
+    private int pendingMutations;
+
+    QuoteSnapshot(Path dbDir, StorageMode mode, int interval) {
+        this.file = dbDir.resolve("snapshot.bin");
+        this.tempFile = dbDir.resolve("snapshot.bin.tmp");
+        this.mode = mode;
+        this.interval = interval;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "wise-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    SnapshotData Read(Consumer<WiseQuote> sink) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return Decode(buffer, (int) size, sink);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+
+    synchronized boolean MutationApplied() {
+        if (interval <= 0) {
+            return false;
+        }
+
+        pendingMutations++;
+
+        if (pendingMutations < interval) {
+            return false;
+        }
+
+        pendingMutations = 0;
+        return true;
+    }
+
+    void WriteAsync(int nextId, StorageMark mark, WiseQuote[] quotes) {
+        writer.submit(() -> {
+            try {
+                Write(nextId, mark, quotes.length, Arrays.asList(quotes)::forEach);
+            } catch (StorageException | IllegalArgumentException ignored) {
+            }
+        });
+    }
+
+    void WriteOnClose(int nextId, StorageMark mark, QuoteIndex quotes) {
+        writer.shutdown();
+
+        try {
+            writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Write(nextId, mark, quotes.Size(), quotes::ForEachAsc);
+    }
+
+    private void Write(int nextId, StorageMark mark, int count, Consumer<Consumer<WiseQuote>> source) {
+        CRC32 crc = new CRC32();
+
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile())) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(fileOut, crc), BUFFER_SIZE));
+
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeByte(mode.ordinal());
+            out.writeInt(nextId);
+            out.writeLong(mark.sequence());
+            out.writeLong(mark.position());
+            out.writeInt(count);
+
+            source.accept(quote -> {
+                try {
+                    WriteQuote(out, quote);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            out.flush();
+            new DataOutputStream(fileOut).writeInt((int) crc.getValue());
+            fileOut.getChannel().force(true);
+        } catch (IOException | UncheckedIOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SNAPSHOT_ERROR);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new StorageException(ERROR_PREFIX + WRITE_SNAPSHOT_ERROR);
+        }
+    }
+
+    private void WriteQuote(DataOutputStream out, WiseQuote quote) throws IOException {
+        byte[] author = quote.author().getBytes(StandardCharsets.UTF_8);
+        byte[] content = quote.content().getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(quote.id());
+        out.writeInt(author.length);
+        out.write(author);
+        out.writeInt(content.length);
+        out.write(content);
+    }
+
+    private SnapshotData Decode(MappedByteBuffer buffer, int size, Consumer<WiseQuote> sink) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, size - CHECKSUM_SIZE));
+
+        if ((int) crc.getValue() != buffer.getInt(size - CHECKSUM_SIZE)) {
+            return null;
+        }
+
+        buffer.limit(size - CHECKSUM_SIZE);
+
+        if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION || buffer.get() != mode.ordinal()) {
+            return null;
+        }
+
+        int nextId = buffer.getInt();
+        StorageMark mark = new StorageMark(buffer.getLong(), buffer.getLong());
+        int count = buffer.getInt();
+
+        if (count < 0) {
+            return null;
+        }
+
+        int i = 0;
+
+        while (i < count) {
+            int id = buffer.getInt();
+            String author = ReadString(buffer);
+            String content = ReadString(buffer);
+            sink.accept(new WiseQuote(id, author, content));
+            i++;
+        }
+
+        if (buffer.hasRemaining()) {
+            return null;
+        }
+
+        return new SnapshotData(nextId, mark, count);
+    }
+
+    private String ReadString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
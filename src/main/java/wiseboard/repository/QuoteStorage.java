@@ -0,0 +1,24 @@
+package wiseboard.repository;
+
+import wiseboard.domain.WiseQuote;
+
+interface QuoteStorage {
+
+    LoadResult Load(QuoteIndex quotes);
+
+    LoadResult LoadAfter(QuoteIndex quotes, StorageMark mark);
+
+    StorageMark Mark();
+
+    void WriteRegister(WiseQuote quote);
+
+    void WriteModify(WiseQuote quote);
+
+    void WriteDelete(int id);
+
+    void BeginBatch();
+
+    void CommitBatch();
+
+    void Close();
+}
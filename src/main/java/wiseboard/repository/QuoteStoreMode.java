@@ -0,0 +1,33 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+public enum QuoteStoreMode {
+    HEAP("heap"),
+    COMPACT("compact"),
+    MAPPED("mapped"),
+    LAZY("lazy");
+
+    private static final String INVALID_STORE_MODE_ERROR = "알 수 없는 메모리 저장 방식입니다. 사용 가능한 값: heap, compact, mapped, lazy";
+
+    private final String value;
+
+    QuoteStoreMode(String value) {
+        this.value = value;
+    }
+
+    public static QuoteStoreMode From(String value) {
+        QuoteStoreMode[] modes = values();
+        int i = 0;
+
+        while (i < modes.length) {
+            if (modes[i].value.equalsIgnoreCase(value.trim())) {
+                return modes[i];
+            }
+
+            i++;
+        }
+
+        throw new IllegalArgumentException(ERROR_PREFIX + INVALID_STORE_MODE_ERROR);
+    }
+}
@@ -0,0 +1,110 @@
+package wiseboard.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+class QuoteTokenizer {
+
+    private QuoteTokenizer() {
+    }
+
+    static void DocumentTerms(String text, int weight, Map<String, Integer> terms) {
+        int i = 0;
+
+        while (i < text.length()) {
+            int end = RunEnd(text, i);
+
+            if (end == i) {
+                i++;
+                continue;
+            }
+
+            if (IsKorean(text.charAt(i))) {
+                AddKoreanGrams(text, i, end, weight, terms);
+            } else {
+                terms.merge(text.substring(i, end).toLowerCase(), weight, Integer::sum);
+            }
+
+            i = end;
+        }
+    }
+
+    static void QueryTerms(String text, Set<String> terms) {
+        int i = 0;
+
+        while (i < text.length()) {
+            int end = RunEnd(text, i);
+
+            if (end == i) {
+                i++;
+                continue;
+            }
+
+            if (!IsKorean(text.charAt(i))) {
+                terms.add(text.substring(i, end).toLowerCase());
+            } else if (end - i == 1) {
+                terms.add(text.substring(i, end));
+            } else {
+                int j = i;
+
+                while (j + 1 < end) {
+                    terms.add(text.substring(j, j + 2));
+                    j++;
+                }
+            }
+
+            i = end;
+        }
+    }
+
+    private static void AddKoreanGrams(String text, int start, int end, int weight, Map<String, Integer> terms) {
+        int i = start;
+
+        while (i < end) {
+            terms.merge(text.substring(i, i + 1), weight, Integer::sum);
+
+            if (i + 1 < end) {
+                terms.merge(text.substring(i, i + 2), weight, Integer::sum);
+            }
+
+            i++;
+        }
+    }
+
+    private static int RunEnd(String text, int start) {
+        char first = text.charAt(start);
+        int kind = KindOf(first);
+
+        if (kind == 0) {
+            return start;
+        }
+
+        int i = start + 1;
+
+        while (i < text.length() && KindOf(text.charAt(i)) == kind) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int KindOf(char c) {
+        if (IsKorean(c)) {
+            return 1;
+        }
+
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+            return 2;
+        }
+
+        if (c >= '0' && c <= '9') {
+            return 3;
+        }
+
+        return 0;
+    }
+
+    private static boolean IsKorean(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
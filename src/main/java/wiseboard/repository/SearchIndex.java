@@ -0,0 +1,259 @@
+package wiseboard.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import wiseboard.domain.WiseQuote;
+
+class SearchIndex {
+
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int BUILD_BATCH_SIZE = 4096;
+    private static final int MAX_BUILD_PARALLELISM = 8;
+
+    private final Map<String, Postings> terms;
+    private int documentCount;
+
+    SearchIndex() {
+        this.terms = new HashMap<>();
+    }
+
+    static SearchIndex Build(WiseQuote[] quotes) {
+        if (quotes.length <= BUILD_BATCH_SIZE) {
+            return BuildRange(quotes, 0, quotes.length);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(MAX_BUILD_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
+        try {
+            return pool.invoke(new BuildTask(quotes, 0, quotes.length));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static SearchIndex Build(QuoteIndex quotes) {
+        SearchIndex index = new SearchIndex();
+        quotes.ForEachAsc(index::Add);
+
+        return index;
+    }
+
+    void Add(WiseQuote quote) {
+        Map<String, Integer> weights = TermsOf(quote);
+
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            terms.computeIfAbsent(entry.getKey(), key -> new Postings()).Put(quote.id(), entry.getValue());
+        }
+
+        documentCount++;
+    }
+
+    void Remove(WiseQuote quote) {
+        Map<String, Integer> weights = TermsOf(quote);
+
+        for (String term : weights.keySet()) {
+            Postings postings = terms.get(term);
+
+            if (postings == null) {
+                continue;
+            }
+
+            postings.Remove(quote.id());
+
+            if (postings.Size() == 0) {
+                terms.remove(term);
+            }
+        }
+
+        documentCount--;
+    }
+
+    void Replace(WiseQuote previous, WiseQuote quote) {
+        Remove(previous);
+        Add(quote);
+    }
+
+    IdPage Search(String keyword, int page, int size) {
+        Postings[] lists = MatchingPostings(keyword);
+
+        if (lists == null) {
+            return new IdPage(new int[0], 0);
+        }
+
+        double[] idf = new double[lists.length];
+        int i = 0;
+
+        while (i < lists.length) {
+            idf[i] = Math.log(1.0 + (double) documentCount / lists[i].Size());
+            i++;
+        }
+
+        long limit = Math.min((long) page * size, lists[0].Size());
+        PriorityQueue<ScoredId> top = new PriorityQueue<>();
+        int total = 0;
+        int n = 0;
+
+        while (n < lists[0].Length()) {
+            int id = lists[0].IdAt(n);
+            double score = lists[0].WeightAt(n) * idf[0];
+            int j = 1;
+
+            while (j < lists.length && score > 0) {
+                int weight = lists[j].WeightOf(id);
+                score = weight == 0 ? 0 : score + weight * idf[j];
+                j++;
+            }
+
+            if (score > 0) {
+                total++;
+                Offer(top, new ScoredId(id, score), limit);
+            }
+
+            n++;
+        }
+
+        return new IdPage(PageOf(top, page, size), total);
+    }
+
+    int TermCount() {
+        return terms.size();
+    }
+
+    private Postings[] MatchingPostings(String keyword) {
+        Set<String> queryTerms = new HashSet<>();
+        QuoteTokenizer.QueryTerms(keyword, queryTerms);
+
+        if (queryTerms.isEmpty()) {
+            return null;
+        }
+
+        List<Postings> lists = new ArrayList<>();
+
+        for (String term : queryTerms) {
+            Postings postings = terms.get(term);
+
+            if (postings == null) {
+                return null;
+            }
+
+            lists.add(postings);
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.Size(), b.Size()));
+        return lists.toArray(new Postings[0]);
+    }
+
+    private void Offer(PriorityQueue<ScoredId> top, ScoredId candidate, long limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+            return;
+        }
+
+        if (limit > 0 && candidate.compareTo(top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private int[] PageOf(PriorityQueue<ScoredId> top, int page, int size) {
+        int[] ranked = new int[top.size()];
+        int i = ranked.length - 1;
+
+        while (!top.isEmpty()) {
+            ranked[i] = top.poll().id();
+            i--;
+        }
+
+        int from = (int) Math.min((long) (page - 1) * size, ranked.length);
+        int[] result = new int[ranked.length - from];
+        System.arraycopy(ranked, from, result, 0, result.length);
+
+        return result;
+    }
+
+    private static Map<String, Integer> TermsOf(WiseQuote quote) {
+        Map<String, Integer> weights = new HashMap<>();
+        QuoteTokenizer.DocumentTerms(quote.content(), CONTENT_WEIGHT, weights);
+        QuoteTokenizer.DocumentTerms(quote.author(), AUTHOR_WEIGHT, weights);
+
+        return weights;
+    }
+
+    private static SearchIndex BuildRange(WiseQuote[] quotes, int from, int to) {
+        SearchIndex index = new SearchIndex();
+        int i = from;
+
+        while (i < to) {
+            index.Add(quotes[i]);
+            i++;
+        }
+
+        return index;
+    }
+
+    private void MergeAfter(SearchIndex later) {
+        for (Map.Entry<String, Postings> entry : later.terms.entrySet()) {
+            Postings postings = terms.get(entry.getKey());
+
+            if (postings == null) {
+                terms.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            postings.AppendAll(entry.getValue());
+        }
+
+        documentCount += later.documentCount;
+    }
+
+    private record ScoredId(int id, double score) implements Comparable<ScoredId> {
+
+        @Override
+        public int compareTo(ScoredId other) {
+            int byScore = Double.compare(score, other.score);
+
+            if (byScore != 0) {
+                return byScore;
+            }
+
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    private static class BuildTask extends RecursiveTask<SearchIndex> {
+
+        private final WiseQuote[] quotes;
+        private final int from;
+        private final int to;
+
+        BuildTask(WiseQuote[] quotes, int from, int to) {
+            this.quotes = quotes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SearchIndex compute() {
+            if (to - from <= BUILD_BATCH_SIZE) {
+                return BuildRange(quotes, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            BuildTask right = new BuildTask(quotes, mid, to);
+            right.fork();
+
+            SearchIndex left = new BuildTask(quotes, from, mid).compute();
+            left.MergeAfter(right.join());
+
+            return left;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+record SnapshotData(int nextId, StorageMark mark, int quoteCount) {
+}
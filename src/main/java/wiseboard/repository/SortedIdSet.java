@@ -0,0 +1,78 @@
+package wiseboard.repository;
+
+import java.util.Arrays;
+
+class SortedIdSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids;
+    private int size;
+
+    SortedIdSet() {
+        this.ids = new int[INITIAL_CAPACITY];
+    }
+
+    void Add(int id) {
+        if (size > 0 && id <= ids[size - 1]) {
+            Insert(id);
+            return;
+        }
+
+        EnsureCapacity(size + 1);
+        ids[size] = id;
+        size++;
+    }
+
+    void Remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    int LowerBound(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position < 0) {
+            return -position - 1;
+        }
+
+        return position;
+    }
+
+    int Get(int index) {
+        return ids[index];
+    }
+
+    int Size() {
+        return size;
+    }
+
+    private void Insert(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+
+        if (position >= 0) {
+            return;
+        }
+
+        position = -position - 1;
+        EnsureCapacity(size + 1);
+
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    private void EnsureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+
+        ids = Arrays.copyOf(ids, Math.max(required, ids.length << 1));
+    }
+}
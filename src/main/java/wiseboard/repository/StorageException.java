@@ -0,0 +1,8 @@
+package wiseboard.repository;
+
+public class StorageException extends RuntimeException {
+
+    public StorageException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.repository;
+
+record StorageMark(long sequence, long position) {
+}
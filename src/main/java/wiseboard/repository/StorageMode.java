@@ -0,0 +1,31 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+public enum StorageMode {
+    FILE("file"),
+    LOG("log");
+
+    private static final String INVALID_STORAGE_MODE_ERROR = "알 수 없는 저장 방식입니다. 사용 가능한 값: file, log";
+
+    private final String value;
+
+    StorageMode(String value) {
+        this.value = value;
+    }
+
+    public static StorageMode From(String value) {
+        StorageMode[] modes = values();
+        int i = 0;
+
+        while (i < modes.length) {
+            if (modes[i].value.equalsIgnoreCase(value.trim())) {
+                return modes[i];
+            }
+
+            i++;
+        }
+
+        throw new IllegalArgumentException(ERROR_PREFIX + INVALID_STORAGE_MODE_ERROR);
+    }
+}
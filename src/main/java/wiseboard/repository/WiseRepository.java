@@ -2,327 +2,486 @@ package wiseboard.repository;
 
 import static wiseboard.input.WiseInput.ERROR_PREFIX;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import wiseboard.config.WiseConfig;
+import wiseboard.domain.QuotePage;
 import wiseboard.domain.WiseQuote;
+import wiseboard.jfr.RepositoryLoadEvent;
+import wiseboard.metrics.Metric;
+import wiseboard.metrics.WiseMetrics;
 
 public class WiseRepository {
 
-    private static final String RENEWAL_JSON_ERROR = "data.json 파일 갱신에 실패했습니다.";
-    private static final String CREATE_DB_DIR_ERROR = "DB 디렉토리 생성에 실패했습니다.";
-    private static final String READ_LAST_ID_ERROR = "lastId.txt 파일 읽기에 실패했습니다.";
-    private static final String WRITE_LAST_ID_ERROR = "lastId.txt 파일 저장에 실패했습니다.";
-    private static final String READ_QUOTE_FILE_ERROR = "명언 파일 읽기에 실패했습니다: ";
-    private static final String WRITE_QUOTE_FILE_ERROR = "명언 파일 저장에 실패했습니다: ";
-    private static final String DELETE_QUOTE_FILE_ERROR = "명언 파일 삭제에 실패했습니다: ";
-    private static final String WRONG_QUOTE_JSON_ERROR = "명언 파일의 Json 형식이 올바르지 않습니다.";
-
-    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
-    private static final Path LAST_ID_FILE = DB_DIR.resolve("lastId.txt");
-    private static final Path DATA_JSON_FILE = Paths.get("data.json");
+    private static final String SEARCH_DISABLED_ERROR = "검색 색인이 꺼져 있습니다. --search=true 로 실행해주세요.";
+    private static final String LAZY_INDEX_ERROR = "lazy 모드에서는 검색과 작가별 목록을 사용할 수 없습니다.";
+    private static final String LAZY_STORAGE_ERROR = "lazy 모드는 --storage=file 에서만 사용할 수 있습니다.";
+    private static final String LAZY_WRITE_BEHIND_ERROR = "lazy 모드는 --writeBehind 와 함께 사용할 수 없습니다.";
 
-    private final List<WiseQuote> quotes;
-    private Integer nextId;
+    private static final Path DATA_JSON_FILE = Paths.get("data.json");
+    private static final int STRIPE_COUNT = 64;
+    private static final int IMPORT_BATCH_SIZE = 4096;
+    private static final String[] LINES_EXTENSIONS = {".ndjson", ".jsonl"};
+
+    private final QuoteIndex quotes;
+    private final QuoteStorage storage;
+    private final WriteBehindStorage writeBehind;
+    private final CachedQuoteSlots cachedSlots;
+    private final QuoteSnapshot snapshot;
+    private final DataJsonWriter dataJsonWriter;
+    private final SearchIndex searchIndex;
+    private final AuthorIndex authorIndex;
+    private final LoadReport loadReport;
+    private final StampedLock lock;
+    private final ReentrantLock[] stripes;
+    private final AtomicInteger nextId;
 
     public WiseRepository() {
-        this.quotes = new ArrayList<>();
-        EnsureDbDir();
+        this(WiseConfig.Load());
+    }
+
+    public WiseRepository(WiseConfig config) {
+        Path dbDir = Paths.get(config.DbDir());
+        WiseMetrics.Configure(config.MetricsEnabled(), Paths.get(config.MetricsFile()));
+
+        boolean lazy = LazyMode(config);
+        BlockCompressor compressor = config.Compress() ? new BlockCompressor(config.CompressLevel()) : null;
+        QuoteStorage durable = CreateStorage(dbDir, config.StorageMode(), config.QuoteLayout(),
+                new DurabilityPolicy(config.Durability(), config.GroupCommitMillis(), config.GroupCommitRecords()),
+                compressor);
+        this.writeBehind = config.WriteBehind() ? new WriteBehindStorage(durable, config.WriteBehindQueue()) : null;
+        this.storage = writeBehind == null ? durable : writeBehind;
+        FileQuoteStorage lazyFiles = lazy ? (FileQuoteStorage) durable : null;
+        this.cachedSlots = lazyFiles == null ? null : new CachedQuoteSlots(config.CacheBytes(), lazyFiles::ReadQuote);
+        this.quotes = cachedSlots == null ? CreateQuoteIndex(config, dbDir) : QuoteIndex.Lazy(cachedSlots);
+        this.dataJsonWriter = new DataJsonWriter(DATA_JSON_FILE, config.QuoteStoreMode() == QuoteStoreMode.HEAP,
+                compressor);
+        boolean mapped = config.QuoteStoreMode() == QuoteStoreMode.MAPPED;
+        this.snapshot = config.SnapshotEnabled() && !lazy
+                ? new QuoteSnapshot(dbDir, config.StorageMode(), mapped ? 0 : config.SnapshotInterval())
+                : null;
+
+        RepositoryLoadEvent event = new RepositoryLoadEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        long metricStarted = WiseMetrics.Start();
+        LoadResult loaded = LoadFromSnapshot();
+        boolean fromSnapshot = loaded != null;
+
+        if (!fromSnapshot) {
+            quotes.Clear();
+            loaded = lazyFiles == null ? storage.Load(quotes) : lazyFiles.LoadIds(quotes);
+        }
 
-        Integer lastId = ReadLastId();
-        LoadQuotes(lastId);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        WiseMetrics.Record(Metric.REPOSITORY_LOAD, metricStarted);
+
+        this.loadReport = new LoadReport(quotes.Size(), loaded.fileCount(), elapsedMillis, fromSnapshot);
+        event.quoteCount = loadReport.quoteCount();
+        event.fileCount = loadReport.fileCount();
+        event.fromSnapshot = fromSnapshot;
+        event.commit();
+        this.nextId = new AtomicInteger(loaded.lastId() + 1);
+        this.lock = new StampedLock();
+        this.stripes = new ReentrantLock[STRIPE_COUNT];
+        int i = 0;
 
-        this.nextId = lastId + 1;
+        while (i < STRIPE_COUNT) {
+            stripes[i] = new ReentrantLock();
+            i++;
+        }
+
+        this.searchIndex = config.SearchEnabled() && !lazy
+                ? (mapped ? SearchIndex.Build(quotes) : SearchIndex.Build(quotes.ToArrayAsc()))
+                : null;
+        this.authorIndex = lazy ? null : new AuthorIndex();
+
+        if (authorIndex != null) {
+            quotes.ForEachAsc(authorIndex::Add);
+        }
     }
 
     public WiseQuote Save(String author, String content) {
-        Integer id = nextId;
-        WiseQuote wiseQuote = new WiseQuote(id, author, content);
+        WiseQuote wiseQuote;
+        long stamp = lock.writeLock();
 
-        quotes.add(wiseQuote);
-        nextId++;
+        try {
+            wiseQuote = new WiseQuote(nextId.getAndIncrement(), author, content);
+            quotes.Add(wiseQuote);
 
-        WriteQuoteFile(wiseQuote);
-        WriteLastId(id);
+            if (authorIndex != null) {
+                authorIndex.Add(wiseQuote);
+            }
+
+            if (searchIndex != null) {
+                searchIndex.Add(wiseQuote);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
 
+        Persist(wiseQuote.id(), true);
         return wiseQuote;
     }
 
     public WiseQuote FindById(Integer id) {
-        int i = 0;
+        return ReadLocked(() -> quotes.Get(id));
+    }
+
+    public boolean DeleteById(Integer id) {
+        long stamp = lock.writeLock();
 
-        while (i < quotes.size()) {
-            WiseQuote quote = quotes.get(i);
+        try {
+            WiseQuote removed = quotes.Remove(id);
 
-            if (quote.id().equals(id)) {
-                return quote;
+            if (removed == null) {
+                return false;
             }
 
-            i++;
+            if (authorIndex != null) {
+                authorIndex.Remove(removed);
+            }
+
+            if (searchIndex != null) {
+                searchIndex.Remove(removed);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
         }
 
-        return null;
+        Persist(id, false);
+        return true;
     }
 
-    public boolean DeleteById(Integer id) {
-        Integer index = FindIndexById(id);
+    public boolean ReplaceById(Integer id, String author, String content) {
+        long stamp = lock.writeLock();
 
-        if (index == null) {
-            return false;
-        }
+        try {
+            WiseQuote previous = quotes.Get(id);
+
+            if (previous == null) {
+                return false;
+            }
+
+            WiseQuote replaceQuote = new WiseQuote(id, author, content);
+            quotes.Replace(replaceQuote);
 
-        quotes.remove((int)index);
-        DeleteQuoteFile(id);
+            if (authorIndex != null) {
+                authorIndex.Replace(previous, replaceQuote);
+            }
+
+            if (searchIndex != null) {
+                searchIndex.Replace(previous, replaceQuote);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
 
+        Persist(id, false);
         return true;
     }
 
-    public boolean ReplaceById(Integer id, String author, String content) {
-        Integer index = FindIndexById(id);
+    public WiseQuote[] FindAllDesc() {
+        return ReadLocked(quotes::ToArrayDesc);
+    }
 
-        if (index == null) {
-            return false;
+    public QuotePage FindPageDesc(int page, int size) {
+        return ReadLocked(() -> quotes.PageDesc(page, size));
+    }
+
+    public QuotePage FindRangeDesc(int fromId, int toId, int page, int size) {
+        return ReadLocked(() -> quotes.RangePageDesc(fromId, toId, page, size));
+    }
+
+    public QuotePage Search(String keyword, int page, int size) {
+        if (searchIndex == null) {
+            throw new IllegalArgumentException(ERROR_PREFIX
+                    + (cachedSlots == null ? SEARCH_DISABLED_ERROR : LAZY_INDEX_ERROR));
         }
 
-        WiseQuote replaceQuote = new WiseQuote(id, author, content);
-        quotes.set(index, replaceQuote);
+        return ReadLocked(() -> ToQuotePage(searchIndex.Search(keyword, page, size), page, size));
+    }
 
-        WriteQuoteFile(replaceQuote);
+    public QuotePage FindByAuthorDesc(String author, int fromId, int toId, int page, int size) {
+        RequireAuthorIndex();
+        return ReadLocked(() -> ToQuotePage(authorIndex.PageDesc(author, fromId, toId, page, size), page, size));
+    }
 
-        return true;
+    public int CountByAuthor(String author) {
+        RequireAuthorIndex();
+        return ReadIndex(() -> authorIndex.Count(author));
     }
 
-    public WiseQuote[] FindAllDesc() {
-        List<WiseQuote> copy = new ArrayList<>(quotes);
-        copy.sort(Comparator.comparing(WiseQuote::id).reversed());
+    public CompressionReport BuildDataJson() {
+        Flush();
+        ReadLocked(() -> {
+            dataJsonWriter.Write(quotes);
+            return null;
+        });
 
-        return copy.toArray(new WiseQuote[0]);
+        return dataJsonWriter.Compress();
     }
 
-    public void BuildDataJson() {
-        List<WiseQuote> copy = new ArrayList<>(quotes);
-        copy.sort(Comparator.comparing(WiseQuote::id));
+    public ImportReport Import(Path file, Consumer<WiseQuote> validator) {
+        long startedAt = System.nanoTime();
+        QuoteImport quoteImport = new QuoteImport(IMPORT_BATCH_SIZE, validator, this::SaveAll);
 
-        String json = ToDataJson(copy);
+        storage.BeginBatch();
 
         try {
-            Files.writeString(DATA_JSON_FILE, json, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + RENEWAL_JSON_ERROR);
+            DataJsonReader.ReadImport(file, IsLines(file), quoteImport);
+            quoteImport.Flush();
+        } finally {
+            storage.CommitBatch();
+            MutationApplied();
         }
+
+        return quoteImport.Report((System.nanoTime() - startedAt) / 1_000_000);
     }
 
-    private Integer FindIndexById(Integer id) {
-        int i = 0;
+    public ExportReport Export(Path file) {
+        long startedAt = System.nanoTime();
+        int exported = ReadLocked(() -> QuoteExporter.Export(file, IsLines(file), quotes));
 
-        while (i < quotes.size()) {
-            WiseQuote quote = quotes.get(i);
+        return new ExportReport(exported, (System.nanoTime() - startedAt) / 1_000_000);
+    }
 
-            if (quote.id().equals(id)) {
-                return i;
-            }
+    public void BeginBatch() {
+        storage.BeginBatch();
+    }
 
-            i++;
-        }
+    public void CommitBatch() {
+        storage.CommitBatch();
+    }
 
-        return null;
+    public MemoryUsage MemoryUsage() {
+        return ReadLocked(quotes::MemoryUsage);
     }
 
-    private void EnsureDbDir() {
-        try {
-            Files.createDirectories(DB_DIR);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + CREATE_DB_DIR_ERROR);
-        }
+    public LoadReport LoadReport() {
+        return loadReport;
     }
 
-    private Integer ReadLastId() {
-        if (!Files.exists(LAST_ID_FILE)) {
-            return 0;
+    public void Flush() {
+        if (writeBehind != null) {
+            writeBehind.Flush();
         }
+    }
 
-        try {
-            String text = Files.readString(LAST_ID_FILE, StandardCharsets.UTF_8).trim();
-
-            if (text.isEmpty()) {
-                return 0;
-            }
+    public void Close() {
+        Flush();
 
-            return Integer.valueOf(text);
-        } catch (IOException | NumberFormatException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + READ_LAST_ID_ERROR);
+        if (snapshot != null) {
+            StorageMark mark = storage.Mark();
+            ReadLocked(() -> {
+                snapshot.WriteOnClose(nextId.get(), mark, quotes);
+                return null;
+            });
         }
-    }
 
-    private void WriteLastId(Integer id) {
-        try {
-            Files.writeString(LAST_ID_FILE, String.valueOf(id), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + WRITE_LAST_ID_ERROR);
-        }
+        storage.Close();
+        quotes.Close();
+        WiseMetrics.Dump();
     }
 
-    private void LoadQuotes(Integer lastId) {
-        Integer i = 1;
+    private void SaveAll(QuoteImport quoteImport) {
+        WiseQuote[] pending = quoteImport.Pending();
+        int count = quoteImport.PendingCount();
+        int firstId;
+        long stamp = lock.writeLock();
 
-        while (i <= lastId) {
-            Path quoteFile = DB_DIR.resolve(i + ".json");
+        try {
+            firstId = nextId.getAndAdd(count);
+            int i = 0;
+
+            while (i < count) {
+                WiseQuote wiseQuote = new WiseQuote(firstId + i, pending[i].author(), pending[i].content());
+                quotes.Add(wiseQuote);
 
-            if (Files.exists(quoteFile)) {
-                WiseQuote quote = ReadQuoteFile(quoteFile);
+                if (authorIndex != null) {
+                    authorIndex.Add(wiseQuote);
+                }
 
-                if (quote != null) {
-                    quotes.add(quote);
+                if (searchIndex != null) {
+                    searchIndex.Add(wiseQuote);
                 }
+
+                pending[i] = null;
+                i++;
             }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        int i = 0;
 
+        while (i < count) {
+            Write(firstId + i, true);
             i++;
         }
 
-        quotes.sort(Comparator.comparing(WiseQuote::id));
+        quoteImport.Imported(firstId, firstId + count - 1);
     }
 
-    private WiseQuote ReadQuoteFile(Path path) {
-        try {
-            String json = Files.readString(path, StandardCharsets.UTF_8);
-            return ParseQuoteJson(json);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + READ_QUOTE_FILE_ERROR + path.getFileName());
-        }
+    private void Persist(int id, boolean registered) {
+        Write(id, registered);
+        MutationApplied();
     }
 
-    private void WriteQuoteFile(WiseQuote quote) {
-        Path quoteFile = DB_DIR.resolve(quote.id() + ".json");
-        String json = ToQuoteJson(quote);
+    private void Write(int id, boolean registered) {
+        ReentrantLock stripe = stripes[id & (STRIPE_COUNT - 1)];
+        stripe.lock();
 
         try {
-            Files.writeString(quoteFile, json, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + WRITE_QUOTE_FILE_ERROR + quote.id());
+            WiseQuote current = FindById(id);
+
+            if (current == null) {
+                storage.WriteDelete(id);
+            } else if (registered) {
+                storage.WriteRegister(current);
+            } else {
+                storage.WriteModify(current);
+            }
+
+            if (cachedSlots != null && current != null) {
+                cachedSlots.Persisted(current);
+            }
+        } finally {
+            stripe.unlock();
         }
     }
 
-    private void DeleteQuoteFile(Integer id) {
-        Path quoteFile = DB_DIR.resolve(id + ".json");
+    private boolean IsLines(Path file) {
+        String name = file.getFileName().toString();
+        int i = 0;
 
-        try {
-            Files.deleteIfExists(quoteFile);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(ERROR_PREFIX + DELETE_QUOTE_FILE_ERROR + id);
+        while (i < LINES_EXTENSIONS.length) {
+            if (name.endsWith(LINES_EXTENSIONS[i])) {
+                return true;
+            }
+
+            i++;
         }
+
+        return false;
     }
 
-    private String ToQuoteJson(WiseQuote quote) {
-        return "{\n"
-                + "  \"id\": " + quote.id() + ",\n"
-                + "  \"content\": \"" + quote.content() + "\",\n"
-                + "  \"author\": \"" + quote.author() + "\"\n"
-                + "}\n";
+    private void RequireAuthorIndex() {
+        if (authorIndex == null) {
+            throw new IllegalArgumentException(ERROR_PREFIX + LAZY_INDEX_ERROR);
+        }
     }
 
-    private WiseQuote ParseQuoteJson(String json) {
-        Integer id = ParseIntField(json, "\"id\":");
-        String content = ParseStringField(json, "\"content\":");
-        String author = ParseStringField(json, "\"author\":");
+    private int ReadIndex(IntSupplier reader) {
+        long stamp = lock.tryOptimisticRead();
 
-        if (id == null || content == null || author == null) {
-            throw new IllegalArgumentException(ERROR_PREFIX + WRONG_QUOTE_JSON_ERROR);
+        if (stamp != 0) {
+            int result = reader.getAsInt();
+
+            if (lock.validate(stamp)) {
+                return result;
+            }
         }
 
-        return new WiseQuote(id, author, content);
+        return ReadLocked(reader::getAsInt);
     }
 
-    private Integer ParseIntField(String json, String key) {
-        int index = json.indexOf(key);
+    private <T> T ReadLocked(Supplier<T> reader) {
+        long stamp = lock.readLock();
 
-        if (index < 0) {
-            return null;
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
         }
+    }
 
-        int start = index + key.length();
+    private QuotePage ToQuotePage(IdPage ids, int page, int size) {
+        WiseQuote[] rows = new WiseQuote[ids.ids().length];
+        int i = 0;
 
-        while (start < json.length() && IsWhitespace(json.charAt(start))) {
-            start++;
+        while (i < rows.length) {
+            rows[i] = quotes.Get(ids.ids()[i]);
+            i++;
         }
 
-        int end = start;
-
-        while (end < json.length() && IsDigit(json.charAt(end))) {
-            end++;
-        }
+        int totalPages = Math.max(1, (int) (((long) ids.total() + size - 1) / size));
+        return new QuotePage(rows, page, totalPages, ids.total());
+    }
 
-        if (start == end) {
+    private LoadResult LoadFromSnapshot() {
+        if (snapshot == null) {
             return null;
         }
 
-        return Integer.valueOf(json.substring(start, end));
-    }
+        SnapshotData data = snapshot.Read(quotes::Add);
 
-    private String ParseStringField(String json, String key) {
-        int idx = json.indexOf(key);
-
-        if (idx < 0) {
+        if (data == null) {
             return null;
         }
 
-        int start = idx + key.length();
-
-        while (start < json.length() && IsWhitespace(json.charAt(start))) {
-            start++;
-        }
+        LoadResult replayed = storage.LoadAfter(quotes, data.mark());
 
-        if (start >= json.length() || json.charAt(start) != '\"') {
+        if (replayed == null) {
             return null;
         }
 
-        start++;
+        return new LoadResult(Math.max(data.nextId() - 1, replayed.lastId()), replayed.fileCount());
+    }
 
-        int end = json.indexOf('\"', start);
+    private void MutationApplied() {
+        if (snapshot != null && snapshot.MutationApplied()) {
+            StorageMark mark = storage.Mark();
+            long stamp = lock.readLock();
 
-        if (end < 0) {
-            return null;
+            try {
+                snapshot.WriteAsync(nextId.get(), mark, quotes.ToArrayAsc());
+            } finally {
+                lock.unlockRead(stamp);
+            }
         }
-
-        return json.substring(start, end);
     }
 
-    private boolean IsWhitespace(char c) {
-        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
-    }
+    private QuoteIndex CreateQuoteIndex(WiseConfig config, Path dbDir) {
+        if (config.QuoteStoreMode() == QuoteStoreMode.MAPPED) {
+            return QuoteIndex.Mapped(dbDir);
+        }
 
-    private boolean IsDigit(char c) {
-        return c >= '0' && c <= '9';
-    }
+        if (config.QuoteStoreMode() == QuoteStoreMode.COMPACT) {
+            return QuoteIndex.Compact(config.CompactContent());
+        }
 
-    private String ToDataJson(List<WiseQuote> list) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("[\n");
+        return new QuoteIndex();
+    }
 
-        int i = 0;
+    private boolean LazyMode(WiseConfig config) {
+        if (config.QuoteStoreMode() != QuoteStoreMode.LAZY) {
+            return false;
+        }
 
-        while (i < list.size()) {
-            WiseQuote quote = list.get(i);
+        if (config.WriteBehind()) {
+            throw new IllegalArgumentException(ERROR_PREFIX + LAZY_WRITE_BEHIND_ERROR);
+        }
 
-            sb.append("  {\n");
-            sb.append("    \"id\": ").append(quote.id()).append(",\n");
-            sb.append("    \"content\": \"").append(quote.content()).append("\",\n");
-            sb.append("    \"author\": \"").append(quote.author()).append("\"\n");
-            sb.append("  }");
+        if (config.StorageMode() != StorageMode.FILE) {
+            throw new IllegalArgumentException(ERROR_PREFIX + LAZY_STORAGE_ERROR);
+        }
 
-            if (i < list.size() - 1) {
-                sb.append(",");
-            }
+        return true;
+    }
 
-            sb.append("\n");
-            i++;
+    private QuoteStorage CreateStorage(Path dbDir, StorageMode mode, QuoteLayout layout, DurabilityPolicy policy,
+            BlockCompressor compressor) {
+        if (mode == StorageMode.LOG) {
+            return new LogQuoteStorage(dbDir, policy, compressor);
         }
 
-        sb.append("]\n");
-        return sb.toString();
+        return new FileQuoteStorage(dbDir, policy, layout);
     }
-}
\ No newline at end of file
+}
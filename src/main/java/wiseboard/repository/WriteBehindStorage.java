@@ -0,0 +1,341 @@
+package wiseboard.repository;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import wiseboard.domain.WiseQuote;
+import wiseboard.metrics.Gauge;
+import wiseboard.metrics.WiseMetrics;
+
+class WriteBehindStorage implements QuoteStorage {
+
+    private static final String WRITE_BEHIND_ERROR = "백그라운드 저장에 실패했습니다: ";
+
+    private static final byte REGISTER = 1;
+    private static final byte MODIFY = 2;
+    private static final byte DELETE = 3;
+
+    private static final long RETRY_MILLIS = 1000;
+
+    private final QuoteStorage delegate;
+    private final int capacity;
+    private final ReentrantLock lock;
+    private final Condition queued;
+    private final Condition space;
+    private final Condition drained;
+    private final Thread writer;
+
+    private LinkedHashMap<Integer, PendingWrite> pending;
+    private Set<Integer> cancelledIds;
+    private boolean writing;
+    private boolean closed;
+    private RuntimeException failure;
+    private long failedAttempts;
+    private volatile int depth;
+    private volatile int peakDepth;
+    private volatile long coalescedCount;
+
+    WriteBehindStorage(QuoteStorage delegate, int capacity) {
+        this.delegate = delegate;
+        this.capacity = Math.max(1, capacity);
+        this.lock = new ReentrantLock();
+        this.queued = lock.newCondition();
+        this.space = lock.newCondition();
+        this.drained = lock.newCondition();
+        this.pending = new LinkedHashMap<>();
+        this.cancelledIds = new LinkedHashSet<>();
+        this.writer = new Thread(this::WriteLoop, "wise-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+
+        WiseMetrics.Register(Gauge.WRITE_BEHIND_DEPTH, this::Depth);
+        WiseMetrics.Register(Gauge.WRITE_BEHIND_PEAK, this::PeakDepth);
+        WiseMetrics.Register(Gauge.WRITE_BEHIND_COALESCED, this::CoalescedCount);
+    }
+
+    @Override
+    public LoadResult Load(QuoteIndex quotes) {
+        return delegate.Load(quotes);
+    }
+
+    @Override
+    public LoadResult LoadAfter(QuoteIndex quotes, StorageMark mark) {
+        return delegate.LoadAfter(quotes, mark);
+    }
+
+    @Override
+    public StorageMark Mark() {
+        return delegate.Mark();
+    }
+
+    @Override
+    public void WriteRegister(WiseQuote quote) {
+        Enqueue(REGISTER, quote.id(), quote);
+    }
+
+    @Override
+    public void WriteModify(WiseQuote quote) {
+        Enqueue(MODIFY, quote.id(), quote);
+    }
+
+    @Override
+    public void WriteDelete(int id) {
+        Enqueue(DELETE, id, null);
+    }
+
+    @Override
+    public void BeginBatch() {
+    }
+
+    @Override
+    public void CommitBatch() {
+        Flush();
+    }
+
+    @Override
+    public void Close() {
+        try {
+            Flush();
+        } finally {
+            lock.lock();
+
+            try {
+                closed = true;
+                queued.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            JoinWriter();
+            delegate.Close();
+        }
+    }
+
+    void Flush() {
+        lock.lock();
+
+        try {
+            long attempts = failedAttempts;
+            queued.signal();
+
+            while ((!pending.isEmpty() || !cancelledIds.isEmpty() || writing) && failedAttempts == attempts) {
+                drained.awaitUninterruptibly();
+            }
+
+            ThrowIfFailed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long Depth() {
+        return depth;
+    }
+
+    long PeakDepth() {
+        return peakDepth;
+    }
+
+    long CoalescedCount() {
+        return coalescedCount;
+    }
+
+    private void Enqueue(byte type, int id, WiseQuote quote) {
+        lock.lock();
+
+        try {
+            ThrowIfFailed();
+
+            if (pending.containsKey(id)) {
+                coalescedCount++;
+                Merge(id, new PendingWrite(type, quote, false));
+                depth = pending.size();
+                space.signal();
+                return;
+            }
+
+            while (pending.size() >= capacity && failure == null) {
+                space.awaitUninterruptibly();
+            }
+
+            ThrowIfFailed();
+            Merge(id, new PendingWrite(type, quote, false));
+            depth = pending.size();
+            peakDepth = Math.max(peakDepth, depth);
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void Merge(int id, PendingWrite write) {
+        PendingWrite previous = pending.get(id);
+
+        if (previous == null) {
+            pending.put(id, write);
+            return;
+        }
+
+        if (previous.type() == REGISTER && write.type() == DELETE) {
+            if (previous.written()) {
+                pending.put(id, new PendingWrite(DELETE, null, false));
+                return;
+            }
+
+            pending.remove(id);
+            cancelledIds.add(id);
+            return;
+        }
+
+        byte merged = previous.type() == REGISTER ? REGISTER : write.type();
+        pending.put(id, new PendingWrite(merged, write.quote(), previous.written() && merged == REGISTER));
+    }
+
+    private void Requeue(LinkedHashMap<Integer, PendingWrite> batch, Set<Integer> cancelled) {
+        LinkedHashMap<Integer, PendingWrite> newer = pending;
+        Set<Integer> newerCancelled = cancelledIds;
+        pending = new LinkedHashMap<>();
+        cancelledIds = cancelled;
+
+        for (Map.Entry<Integer, PendingWrite> entry : batch.entrySet()) {
+            PendingWrite write = entry.getValue();
+            pending.put(entry.getKey(), new PendingWrite(write.type(), write.quote(), write.type() == REGISTER));
+        }
+
+        for (Map.Entry<Integer, PendingWrite> entry : newer.entrySet()) {
+            Merge(entry.getKey(), entry.getValue());
+        }
+
+        cancelledIds.addAll(newerCancelled);
+        depth = pending.size();
+    }
+
+    private void WriteLoop() {
+        lock.lock();
+
+        try {
+            while (true) {
+                if (pending.isEmpty() && cancelledIds.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+
+                    queued.awaitUninterruptibly();
+                    continue;
+                }
+
+                if (failure != null) {
+                    if (closed) {
+                        return;
+                    }
+
+                    AwaitRetry();
+                }
+
+                LinkedHashMap<Integer, PendingWrite> batch = pending;
+                Set<Integer> cancelled = cancelledIds;
+                pending = new LinkedHashMap<>();
+                cancelledIds = new LinkedHashSet<>();
+                depth = 0;
+                writing = true;
+                space.signalAll();
+                lock.unlock();
+
+                RuntimeException error = null;
+
+                try {
+                    Apply(batch, cancelled);
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+
+                lock.lock();
+                writing = false;
+
+                if (error == null) {
+                    failure = null;
+                } else {
+                    failure = error;
+                    failedAttempts++;
+                    Requeue(batch, cancelled);
+                }
+
+                space.signalAll();
+                drained.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void Apply(LinkedHashMap<Integer, PendingWrite> batch, Set<Integer> cancelled) {
+        delegate.BeginBatch();
+
+        try {
+            for (Map.Entry<Integer, PendingWrite> entry : batch.entrySet()) {
+                PendingWrite write = entry.getValue();
+
+                if (write.type() == REGISTER) {
+                    delegate.WriteRegister(write.quote());
+                } else if (write.type() == MODIFY) {
+                    delegate.WriteModify(write.quote());
+                } else {
+                    delegate.WriteDelete(entry.getKey());
+                }
+            }
+
+            for (int id : cancelled) {
+                delegate.WriteDelete(id);
+            }
+        } finally {
+            delegate.CommitBatch();
+        }
+    }
+
+    private void ThrowIfFailed() {
+        if (failure == null) {
+            return;
+        }
+
+        String message = failure.getMessage();
+
+        if (message != null && message.startsWith(ERROR_PREFIX)) {
+            message = message.substring(ERROR_PREFIX.length());
+        }
+
+        throw new StorageException(ERROR_PREFIX + WRITE_BEHIND_ERROR + message);
+    }
+
+    private void AwaitRetry() {
+        try {
+            queued.await(RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void JoinWriter() {
+        boolean interrupted = false;
+
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingWrite(byte type, WiseQuote quote, boolean written) {
+    }
+}
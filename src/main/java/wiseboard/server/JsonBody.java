@@ -0,0 +1,125 @@
+package wiseboard.server;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+import wiseboard.repository.JsonReader;
+import wiseboard.repository.JsonWriter;
+
+final class JsonBody {
+
+    private static final String WRONG_BODY_ERROR = "요청 본문은 {\"content\": ..., \"author\": ...} 형식의 Json이어야 합니다.";
+
+    private static final String[] FIELDS = {"content", "author"};
+    private static final int CONTENT_FIELD = 0;
+    private static final int AUTHOR_FIELD = 1;
+
+    private static final byte[] QUOTE_ID = Ascii("{\"id\":");
+    private static final byte[] QUOTE_CONTENT = Ascii(",\"content\":");
+    private static final byte[] QUOTE_AUTHOR = Ascii(",\"author\":");
+    private static final byte[] OBJECT_END = Ascii("}");
+    private static final byte[] COMMA = Ascii(",");
+
+    private static final byte[] PAGE_PAGE = Ascii("{\"page\":");
+    private static final byte[] PAGE_SIZE = Ascii(",\"size\":");
+    private static final byte[] PAGE_TOTAL_PAGES = Ascii(",\"totalPages\":");
+    private static final byte[] PAGE_TOTAL_COUNT = Ascii(",\"totalCount\":");
+    private static final byte[] PAGE_QUOTES = Ascii(",\"quotes\":[");
+    private static final byte[] PAGE_END = Ascii("]}");
+
+    private static final byte[] ERROR_START = Ascii("{\"error\":");
+
+    private JsonBody() {
+    }
+
+    static QuoteRequest ReadQuoteRequest(byte[] body) {
+        JsonReader reader = new JsonReader(ByteBuffer.wrap(body));
+        String content = null;
+        String author = null;
+
+        try {
+            reader.Expect('{');
+
+            if (!reader.Consume('}')) {
+                do {
+                    int field = reader.ReadKey(FIELDS);
+
+                    if (field == CONTENT_FIELD) {
+                        content = reader.ReadString().trim();
+                    } else if (field == AUTHOR_FIELD) {
+                        author = reader.ReadString().trim();
+                    } else {
+                        reader.SkipValue();
+                    }
+                } while (reader.Consume(','));
+
+                reader.Expect('}');
+            }
+
+            if (!reader.AtEnd()) {
+                throw reader.Error();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + WRONG_BODY_ERROR);
+        }
+
+        return new QuoteRequest(content, author);
+    }
+
+    static byte[] Quote(WiseQuote quote) {
+        JsonWriter writer = new JsonWriter();
+        WriteQuote(writer, quote);
+        return writer.ToByteArray();
+    }
+
+    static byte[] Id(int id) {
+        JsonWriter writer = new JsonWriter();
+        writer.Raw(QUOTE_ID).Int(id).Raw(OBJECT_END);
+        return writer.ToByteArray();
+    }
+
+    static byte[] Page(QuotePage page, int size) {
+        JsonWriter writer = new JsonWriter();
+        writer.Raw(PAGE_PAGE).Int(page.page())
+                .Raw(PAGE_SIZE).Int(size)
+                .Raw(PAGE_TOTAL_PAGES).Int(page.totalPages())
+                .Raw(PAGE_TOTAL_COUNT).Int(page.totalCount())
+                .Raw(PAGE_QUOTES);
+
+        WiseQuote[] quotes = page.quotes();
+        int i = 0;
+
+        while (i < quotes.length) {
+            if (i > 0) {
+                writer.Raw(COMMA);
+            }
+
+            WriteQuote(writer, quotes[i]);
+            i++;
+        }
+
+        writer.Raw(PAGE_END);
+        return writer.ToByteArray();
+    }
+
+    static byte[] Error(String message) {
+        JsonWriter writer = new JsonWriter();
+        writer.Raw(ERROR_START).String(message).Raw(OBJECT_END);
+        return writer.ToByteArray();
+    }
+
+    private static void WriteQuote(JsonWriter writer, WiseQuote quote) {
+        writer.Raw(QUOTE_ID).Int(quote.id())
+                .Raw(QUOTE_CONTENT).String(quote.content())
+                .Raw(QUOTE_AUTHOR).String(quote.author())
+                .Raw(OBJECT_END);
+    }
+
+    private static byte[] Ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,264 @@
+package wiseboard.server;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Set;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+import wiseboard.input.CommandQuery;
+import wiseboard.input.QuoteValidator;
+import wiseboard.repository.StorageException;
+import wiseboard.service.WiseService;
+
+class QuoteHandler implements HttpHandler {
+
+    private static final String QUOTES_PATH = "/quotes";
+    private static final String QUOTE_PATH_PREFIX = "/quotes/";
+    private static final String SEARCH_PATH = "/search";
+    private static final String BUILD_PATH = "/build";
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String PUT = "PUT";
+    private static final String DELETE = "DELETE";
+
+    private static final String PAGE_PARAM = "page";
+    private static final String SIZE_PARAM = "size";
+    private static final String FROM_PARAM = "from";
+    private static final String TO_PARAM = "to";
+    private static final String KEYWORD_PARAM = "keyword";
+    private static final String AUTHOR_PARAM = "author";
+    private static final Set<String> LIST_PARAMS = Set.of(PAGE_PARAM, SIZE_PARAM, FROM_PARAM, TO_PARAM, AUTHOR_PARAM);
+    private static final Set<String> SEARCH_PARAMS = Set.of(KEYWORD_PARAM, PAGE_PARAM, SIZE_PARAM);
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_BODY_SIZE = 1 << 20;
+
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String ALLOW = "Allow";
+
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int PAYLOAD_TOO_LARGE = 413;
+    private static final int INTERNAL_ERROR = 500;
+
+    private static final String INVALID_ID_ERROR = "id는 1 이상의 정수여야 합니다. 예) /quotes/1";
+    private static final String QUOTE_NOT_FOUND_ERROR = "번 명언은 존재하지 않습니다.";
+    private static final String PATH_NOT_FOUND_ERROR = "존재하지 않는 경로입니다: ";
+    private static final String METHOD_NOT_ALLOWED_ERROR = "허용되지 않는 메서드입니다. 허용: ";
+    private static final String BODY_TOO_LARGE_ERROR = "요청 본문이 너무 큽니다. 최대 바이트: ";
+
+    private final WiseService wiseService;
+
+    QuoteHandler(WiseService wiseService) {
+        this.wiseService = wiseService;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_SIZE + 1);
+            Response response = body.length > MAX_BODY_SIZE
+                    ? Response.Error(PAYLOAD_TOO_LARGE, ERROR_PREFIX + BODY_TOO_LARGE_ERROR + MAX_BODY_SIZE)
+                    : Handle(exchange, body);
+            Send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response Handle(HttpExchange exchange, byte[] body) {
+        try {
+            return Route(exchange, body);
+        } catch (StorageException e) {
+            return Response.Error(INTERNAL_ERROR, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return Response.Error(BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            return Response.Error(INTERNAL_ERROR, ERROR_PREFIX + e.getMessage());
+        }
+    }
+
+    private Response Route(HttpExchange exchange, byte[] body) {
+        String method = exchange.getRequestMethod();
+        URI uri = exchange.getRequestURI();
+        String path = uri.getPath();
+
+        if (path.equals(QUOTES_PATH)) {
+            if (method.equals(GET)) {
+                return List(uri.getQuery());
+            }
+
+            if (method.equals(POST)) {
+                return Register(body);
+            }
+
+            return MethodNotAllowed(exchange, GET + ", " + POST);
+        }
+
+        if (path.startsWith(QUOTE_PATH_PREFIX)) {
+            int id = ExtractId(path);
+
+            if (method.equals(GET)) {
+                return Get(id);
+            }
+
+            if (method.equals(PUT)) {
+                return Modify(id, body);
+            }
+
+            if (method.equals(DELETE)) {
+                return Delete(id);
+            }
+
+            return MethodNotAllowed(exchange, GET + ", " + PUT + ", " + DELETE);
+        }
+
+        if (path.equals(SEARCH_PATH)) {
+            if (method.equals(GET)) {
+                return Search(uri.getQuery());
+            }
+
+            return MethodNotAllowed(exchange, GET);
+        }
+
+        if (path.equals(BUILD_PATH)) {
+            if (method.equals(POST)) {
+                wiseService.Build();
+                return Response.NoContent();
+            }
+
+            return MethodNotAllowed(exchange, POST);
+        }
+
+        return Response.Error(NOT_FOUND, ERROR_PREFIX + PATH_NOT_FOUND_ERROR + path);
+    }
+
+    private Response Register(byte[] body) {
+        QuoteRequest request = JsonBody.ReadQuoteRequest(body);
+
+        QuoteValidator.ValidateContent(request.content());
+        QuoteValidator.ValidateAuthor(request.author());
+
+        Integer id = wiseService.Register(request.author(), request.content());
+        return Response.Created(JsonBody.Id(id));
+    }
+
+    private Response List(String queryString) {
+        CommandQuery query = Query(queryString, LIST_PARAMS);
+        int page = query.GetPositiveInt(PAGE_PARAM, 1);
+        int size = query.GetPositiveInt(SIZE_PARAM, DEFAULT_PAGE_SIZE);
+
+        int from = query.GetPositiveInt(FROM_PARAM, 1);
+        int to = query.GetPositiveInt(TO_PARAM, Integer.MAX_VALUE);
+
+        QuotePage result;
+
+        if (query.Has(AUTHOR_PARAM)) {
+            String author = query.Get(AUTHOR_PARAM);
+            QuoteValidator.ValidateAuthor(author);
+            result = wiseService.FindByAuthor(author, from, to, page, size);
+        } else if (query.Has(FROM_PARAM) || query.Has(TO_PARAM)) {
+            result = wiseService.FindRange(from, to, page, size);
+        } else {
+            result = wiseService.FindPage(page, size);
+        }
+
+        return Response.Ok(JsonBody.Page(result, size));
+    }
+
+    private Response Search(String queryString) {
+        CommandQuery query = Query(queryString, SEARCH_PARAMS);
+        String keyword = query.Get(KEYWORD_PARAM);
+        int page = query.GetPositiveInt(PAGE_PARAM, 1);
+        int size = query.GetPositiveInt(SIZE_PARAM, DEFAULT_PAGE_SIZE);
+
+        QuoteValidator.ValidateKeyword(keyword);
+
+        return Response.Ok(JsonBody.Page(wiseService.Search(keyword, page, size), size));
+    }
+
+    private Response Get(int id) {
+        WiseQuote quote = wiseService.FindById(id);
+
+        if (quote == null) {
+            return NotFound(id);
+        }
+
+        return Response.Ok(JsonBody.Quote(quote));
+    }
+
+    private Response Modify(int id, byte[] body) {
+        QuoteRequest request = JsonBody.ReadQuoteRequest(body);
+
+        QuoteValidator.ValidateContent(request.content());
+        QuoteValidator.ValidateAuthor(request.author());
+
+        if (!wiseService.Modify(id, request.author(), request.content())) {
+            return NotFound(id);
+        }
+
+        return Response.Ok(JsonBody.Quote(new WiseQuote(id, request.author(), request.content())));
+    }
+
+    private Response Delete(int id) {
+        if (!wiseService.DeleteById(id)) {
+            return NotFound(id);
+        }
+
+        return Response.NoContent();
+    }
+
+    private Response NotFound(int id) {
+        return Response.Error(NOT_FOUND, ERROR_PREFIX + id + QUOTE_NOT_FOUND_ERROR);
+    }
+
+    private Response MethodNotAllowed(HttpExchange exchange, String allowed) {
+        exchange.getResponseHeaders().set(ALLOW, allowed);
+        return Response.Error(METHOD_NOT_ALLOWED, ERROR_PREFIX + METHOD_NOT_ALLOWED_ERROR + allowed);
+    }
+
+    private CommandQuery Query(String queryString, Set<String> allowedKeys) {
+        if (queryString == null || queryString.isEmpty()) {
+            return CommandQuery.Parse("", allowedKeys);
+        }
+
+        return CommandQuery.Parse("?" + queryString, allowedKeys);
+    }
+
+    private int ExtractId(String path) {
+        try {
+            int id = Integer.parseInt(path.substring(QUOTE_PATH_PREFIX.length()));
+
+            if (id < 1) {
+                throw new IllegalArgumentException(ERROR_PREFIX + INVALID_ID_ERROR);
+            }
+
+            return id;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ERROR_PREFIX + INVALID_ID_ERROR);
+        }
+    }
+
+    private void Send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body();
+
+        if (body.length == 0) {
+            exchange.sendResponseHeaders(response.status(), -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set(CONTENT_TYPE, JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(response.status(), body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package wiseboard.server;
+
+record QuoteRequest(String content, String author) {
+}
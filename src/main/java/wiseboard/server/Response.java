@@ -0,0 +1,22 @@
+package wiseboard.server;
+
+record Response(int status, byte[] body) {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    static Response Ok(byte[] body) {
+        return new Response(200, body);
+    }
+
+    static Response Created(byte[] body) {
+        return new Response(201, body);
+    }
+
+    static Response NoContent() {
+        return new Response(204, EMPTY);
+    }
+
+    static Response Error(int status, String message) {
+        return new Response(status, JsonBody.Error(message));
+    }
+}
@@ -0,0 +1,66 @@
+package wiseboard.server;
+
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import wiseboard.config.WiseConfig;
+import wiseboard.repository.WiseRepository;
+import wiseboard.service.WiseService;
+import wiseboard.view.WiseOutput;
+
+public class WiseServer {
+
+    private static final String START_SERVER_ERROR = "서버를 시작할 수 없습니다. 포트 : ";
+    private static final String ROOT_PATH = "/";
+    private static final int BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final WiseService wiseService;
+    private final ExecutorService executor;
+    private final HttpServer httpServer;
+
+    public WiseServer(WiseService wiseService, int port) {
+        this.wiseService = wiseService;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        try {
+            this.httpServer = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        } catch (IOException e) {
+            executor.close();
+            throw new IllegalArgumentException(ERROR_PREFIX + START_SERVER_ERROR + port);
+        }
+
+        httpServer.setExecutor(executor);
+        httpServer.createContext(ROOT_PATH, new QuoteHandler(wiseService));
+    }
+
+    public static void Launch() {
+        WiseConfig config = WiseConfig.Load();
+        WiseServer wiseServer = new WiseServer(new WiseService(new WiseRepository()), config.ServerPort());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(wiseServer::Stop));
+        wiseServer.Start();
+
+        WiseOutput wiseOutput = new WiseOutput();
+        wiseOutput.LoadReport(wiseServer.wiseService.LoadReport());
+        wiseOutput.ServerStarted(wiseServer.Port());
+    }
+
+    public void Start() {
+        httpServer.start();
+    }
+
+    public int Port() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public void Stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        executor.close();
+        wiseService.Close();
+    }
+}
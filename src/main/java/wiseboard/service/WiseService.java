@@ -1,10 +1,25 @@
 package wiseboard.service;
 
+import static wiseboard.input.WiseInput.ERROR_PREFIX;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import wiseboard.domain.QuotePage;
 import wiseboard.domain.WiseQuote;
+import wiseboard.metrics.MetricSnapshot;
+import wiseboard.metrics.GaugeSnapshot;
+import wiseboard.metrics.WiseMetrics;
+import wiseboard.repository.CompressionReport;
+import wiseboard.repository.ExportReport;
+import wiseboard.repository.ImportReport;
+import wiseboard.repository.LoadReport;
+import wiseboard.repository.MemoryUsage;
 import wiseboard.repository.WiseRepository;
 
 public class WiseService {
 
+    private static final String METRICS_DISABLED_ERROR = "통계가 꺼져 있습니다. --metrics=true 로 실행해주세요.";
+
     private final WiseRepository wiseRepository;
 
     public WiseService(WiseRepository wiseRepository) {
@@ -20,6 +35,45 @@ public class WiseService {
         return wiseRepository.FindAllDesc();
     }
 
+    public int ForEachChunkDesc(int chunkSize, Consumer<WiseQuote[]> action) {
+        int cursor = Integer.MAX_VALUE;
+        int count = 0;
+
+        while (cursor >= 1) {
+            WiseQuote[] chunk = wiseRepository.FindRangeDesc(1, cursor, 1, chunkSize).quotes();
+
+            if (chunk.length == 0) {
+                break;
+            }
+
+            action.accept(chunk);
+            count += chunk.length;
+            cursor = chunk[chunk.length - 1].id() - 1;
+        }
+
+        return count;
+    }
+
+    public QuotePage FindPage(int page, int size) {
+        return wiseRepository.FindPageDesc(page, size);
+    }
+
+    public QuotePage FindRange(int fromId, int toId, int page, int size) {
+        return wiseRepository.FindRangeDesc(fromId, toId, page, size);
+    }
+
+    public QuotePage Search(String keyword, int page, int size) {
+        return wiseRepository.Search(keyword, page, size);
+    }
+
+    public QuotePage FindByAuthor(String author, int fromId, int toId, int page, int size) {
+        return wiseRepository.FindByAuthorDesc(author, fromId, toId, page, size);
+    }
+
+    public int CountByAuthor(String author) {
+        return wiseRepository.CountByAuthor(author);
+    }
+
     public boolean DeleteById(int id) {
         return wiseRepository.DeleteById(id);
     }
@@ -32,7 +86,48 @@ public class WiseService {
         return wiseRepository.ReplaceById(id, author, content);
     }
 
-    public void Build() {
-        wiseRepository.BuildDataJson();
+    public CompressionReport Build() {
+        return wiseRepository.BuildDataJson();
+    }
+
+    public ImportReport Import(Path file, Consumer<WiseQuote> validator) {
+        return wiseRepository.Import(file, validator);
+    }
+
+    public ExportReport Export(Path file) {
+        return wiseRepository.Export(file);
+    }
+
+    public void BeginBatch() {
+        wiseRepository.BeginBatch();
+    }
+
+    public void CommitBatch() {
+        wiseRepository.CommitBatch();
+    }
+
+    public LoadReport LoadReport() {
+        return wiseRepository.LoadReport();
+    }
+
+    public MemoryUsage MemoryUsage() {
+        return wiseRepository.MemoryUsage();
+    }
+
+    public MetricSnapshot[] Metrics() {
+        if (!WiseMetrics.Enabled()) {
+            throw new IllegalArgumentException(ERROR_PREFIX + METRICS_DISABLED_ERROR);
+        }
+
+        WiseMetrics.Dump();
+        return WiseMetrics.Snapshot();
+    }
+
+    public GaugeSnapshot[] Gauges() {
+        return WiseMetrics.Gauges();
+    }
+
+    public void Close() {
+        wiseRepository.Close();
     }
 }
@@ -0,0 +1,141 @@
+package wiseboard.view;
+
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import wiseboard.domain.WiseQuote;
+
+final class ConsoleRenderer {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final int MAX_INT_DIGITS = 11;
+    private static final byte[] SEPARATOR = " / ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte REPLACEMENT = '?';
+
+    private final byte[] buffer;
+    private final byte[] digits;
+    private PrintStream out;
+    private Charset charset;
+    private byte[] lineSeparator;
+    private int length;
+
+    ConsoleRenderer() {
+        this.buffer = new byte[BUFFER_SIZE];
+        this.digits = new byte[MAX_INT_DIGITS];
+    }
+
+    void Begin() {
+        out = System.out;
+        charset = out.charset();
+        lineSeparator = System.lineSeparator().getBytes(charset);
+        length = 0;
+    }
+
+    void Row(WiseQuote quote) {
+        Int(quote.id());
+        Bytes(SEPARATOR);
+        Text(quote.author());
+        Bytes(SEPARATOR);
+        Text(quote.content());
+        Bytes(lineSeparator);
+    }
+
+    void End() {
+        Drain();
+        out.flush();
+        out = null;
+    }
+
+    private void Int(int value) {
+        Reserve(MAX_INT_DIGITS);
+
+        if (value < 0) {
+            buffer[length] = '-';
+            length++;
+        }
+
+        long remaining = Math.abs((long) value);
+        int count = 0;
+
+        do {
+            digits[count] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+            count++;
+        } while (remaining > 0);
+
+        while (count > 0) {
+            count--;
+            buffer[length] = digits[count];
+            length++;
+        }
+    }
+
+    private void Text(String text) {
+        if (charset != StandardCharsets.UTF_8) {
+            Bytes(text.getBytes(charset));
+            return;
+        }
+
+        int i = 0;
+        int n = text.length();
+
+        while (i < n) {
+            Reserve(MAX_CHAR_BYTES);
+            char c = text.charAt(i);
+            i++;
+
+            if (c < 0x80) {
+                buffer[length] = (byte) c;
+                length++;
+            } else if (c < 0x800) {
+                buffer[length] = (byte) (0xC0 | (c >> 6));
+                buffer[length + 1] = (byte) (0x80 | (c & 0x3F));
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                buffer[length] = (byte) (0xE0 | (c >> 12));
+                buffer[length + 1] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[length + 2] = (byte) (0x80 | (c & 0x3F));
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i < n && Character.isLowSurrogate(text.charAt(i))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(i));
+                i++;
+                buffer[length] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[length + 1] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[length + 2] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[length + 3] = (byte) (0x80 | (codePoint & 0x3F));
+                length += 4;
+            } else {
+                buffer[length] = REPLACEMENT;
+                length++;
+            }
+        }
+    }
+
+    private void Bytes(byte[] bytes) {
+        int offset = 0;
+
+        while (offset < bytes.length) {
+            Reserve(1);
+            int count = Math.min(buffer.length - length, bytes.length - offset);
+            System.arraycopy(bytes, offset, buffer, length, count);
+            length += count;
+            offset += count;
+        }
+    }
+
+    private void Reserve(int count) {
+        if (buffer.length - length < count) {
+            Drain();
+        }
+    }
+
+    private void Drain() {
+        if (length == 0) {
+            return;
+        }
+
+        out.write(buffer, 0, length);
+        length = 0;
+    }
+}
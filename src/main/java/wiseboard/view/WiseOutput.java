@@ -1,6 +1,14 @@
 package wiseboard.view;
 
+import wiseboard.domain.QuotePage;
 import wiseboard.domain.WiseQuote;
+import wiseboard.metrics.GaugeSnapshot;
+import wiseboard.metrics.MetricSnapshot;
+import wiseboard.repository.CompressionReport;
+import wiseboard.repository.ExportReport;
+import wiseboard.repository.ImportReport;
+import wiseboard.repository.LoadReport;
+import wiseboard.repository.MemoryUsage;
 
 public class WiseOutput {
 
@@ -16,12 +24,100 @@ public class WiseOutput {
     private static final String EXISTING_CONTENT_PREFIX = "명언(기존) : ";
     private static final String EXISTING_AUTHOR_PREFIX = "작가(기존) : ";
     private static final String EMPTY_LIST_OUTPUT = "등록된 명언이 없습니다.";
+    private static final String EMPTY_SEARCH_OUTPUT = "검색 결과가 없습니다.";
     private static final String RENEWAL_JSON_OUTPUT = "data.json 파일의 내용이 갱신되었습니다.";
+    private static final String COMPRESSED_JSON_FORMAT = "data.json.gz 파일도 함께 저장했습니다. (%d바이트 → %d바이트, %d%%, CPU %dms)";
+    private static final String AUTHOR_COUNT_FORMAT = "%s 작가의 명언은 총 %d개입니다.";
+    private static final String PAGE_FORMAT = "페이지 : %d / %d (총 %d개)";
+    private static final String LOAD_REPORT_FORMAT = "명언 %d개를 불러왔습니다. (파일 %d개, %dms)";
+    private static final String SNAPSHOT_REPORT_FORMAT = "명언 %d개를 불러왔습니다. (파일 %d개, %dms, 스냅샷 사용)";
+    private static final String MEMORY_COUNT_FORMAT = "명언 %d개, 작가 %d명";
+    private static final String MEMORY_LEGACY_FORMAT = "기존 표현 : 명언당 %d바이트 (총 %d바이트)";
+    private static final String METRICS_HEADER = "항목 / 횟수 / 실패 / p50 / p99 / p999 / 최대 (us)";
+    private static final String METRICS_ROW_FORMAT = "%s / %d / %d / %.1f / %.1f / %.1f / %.1f";
+    private static final String GAUGE_ROW_FORMAT = "%s : %d";
+    private static final String EMPTY_METRICS_OUTPUT = "기록된 통계가 없습니다.";
+    private static final String IMPORTED_FORMAT = "명언 %d개를 가져왔습니다. (번호 %s, 제외 %d개, %dms)";
+    private static final String ID_RANGE_FORMAT = "%d ~ %d";
+    private static final String ID_RANGE_SEPARATOR = ", ";
+    private static final String EMPTY_ID_RANGE = "0 ~ 0";
+    private static final String EXPORTED_FORMAT = "명언 %d개를 %s 파일로 내보냈습니다. (%dms)";
+    private static final String BATCH_ERROR_FORMAT = "%d번째 줄 : %s";
+    private static final String BATCH_SUMMARY_FORMAT = "명령 %d개를 %dms 동안 처리했습니다. (초당 %d개, 오류 %d개)";
+    private static final String SERVER_STARTED_FORMAT = "서버가 시작되었습니다. http://localhost:%d/quotes";
+    private static final String MEMORY_CURRENT_FORMAT = "현재 표현 : 명언당 %d바이트 (힙 %d바이트, 매핑 %d바이트)";
+
+    private final ConsoleRenderer renderer;
+
+    public WiseOutput() {
+        this.renderer = new ConsoleRenderer();
+    }
 
     public void AppTitle() {
         System.out.println(APP_TITLE);
     }
 
+    public void LoadReport(LoadReport report) {
+        String format = report.fromSnapshot() ? SNAPSHOT_REPORT_FORMAT : LOAD_REPORT_FORMAT;
+        System.out.println(String.format(format, report.quoteCount(), report.fileCount(), report.elapsedMillis()));
+    }
+
+    public void MemoryUsage(MemoryUsage usage) {
+        System.out.println(String.format(MEMORY_COUNT_FORMAT, usage.quoteCount(), usage.authorCount()));
+        System.out.println(String.format(MEMORY_LEGACY_FORMAT, usage.LegacyBytesPerQuote(), usage.legacyBytes()));
+        System.out.println(String.format(MEMORY_CURRENT_FORMAT, usage.BytesPerQuote(), usage.heapBytes(),
+                usage.offHeapBytes()));
+    }
+
+    public void Metrics(MetricSnapshot[] snapshots, GaugeSnapshot[] gauges) {
+        System.out.println(METRICS_HEADER);
+        System.out.println("----------------------");
+
+        if (snapshots.length == 0) {
+            System.out.println(EMPTY_METRICS_OUTPUT);
+        }
+
+        int i = 0;
+
+        while (i < snapshots.length) {
+            MetricSnapshot snapshot = snapshots[i];
+            System.out.println(String.format(METRICS_ROW_FORMAT, snapshot.metric().Label(), snapshot.count(),
+                    snapshot.failures(), Micros(snapshot.p50Nanos()), Micros(snapshot.p99Nanos()),
+                    Micros(snapshot.p999Nanos()), Micros(snapshot.maxNanos())));
+            i++;
+        }
+
+        i = 0;
+
+        while (i < gauges.length) {
+            System.out.println(String.format(GAUGE_ROW_FORMAT, gauges[i].gauge().Label(), gauges[i].value()));
+            i++;
+        }
+    }
+
+    public void Imported(ImportReport report) {
+        System.out.println(String.format(IMPORTED_FORMAT, report.importedCount(), IdRanges(report),
+                report.rejectedCount(), report.elapsedMillis()));
+    }
+
+    public void Exported(String file, ExportReport report) {
+        System.out.println(String.format(EXPORTED_FORMAT, report.exportedCount(), file, report.elapsedMillis()));
+    }
+
+    public void BatchError(int line, String message) {
+        System.out.println(String.format(BATCH_ERROR_FORMAT, line, message));
+    }
+
+    public void BatchSummary(int commandCount, int errorCount, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long perSecond = elapsedNanos == 0 ? commandCount : commandCount * 1_000_000_000L / elapsedNanos;
+        System.out.println(String.format(BATCH_SUMMARY_FORMAT, commandCount, elapsedMillis, perSecond, errorCount));
+    }
+
+    public void ServerStarted(int port) {
+        System.out.println(String.format(SERVER_STARTED_FORMAT, port));
+    }
+
     public void CommandPrompt() {
         System.out.print(COMMAND_PROMPT);
     }
@@ -63,18 +159,62 @@ public class WiseOutput {
         System.out.println(RENEWAL_JSON_OUTPUT);
     }
 
+    public void CompressedJson(CompressionReport report) {
+        System.out.println(String.format(COMPRESSED_JSON_FORMAT, report.rawBytes(), report.compressedBytes(),
+                report.RatioPercent(), report.cpuMillis()));
+    }
+
     public void ListRows(WiseQuote[] quotes) {
+        renderer.Begin();
         int i = 0;
         int n = quotes.length;
 
         while (i < n) {
-            WiseQuote quote = quotes[i];
-            System.out.println(quote.id() + " / " + quote.author() + " / " + quote.content());
+            renderer.Row(quotes[i]);
             i++;
         }
+
+        renderer.End();
+    }
+
+    public void AuthorCount(String author, int count) {
+        System.out.println(String.format(AUTHOR_COUNT_FORMAT, author, count));
+    }
+
+    public void PageFooter(QuotePage page) {
+        System.out.println("----------------------");
+        System.out.println(String.format(PAGE_FORMAT, page.page(), page.totalPages(), page.totalCount()));
     }
 
     public void EmptyList() {
         System.out.println(EMPTY_LIST_OUTPUT);
     }
-}
\ No newline at end of file
+
+    public void EmptySearch() {
+        System.out.println(EMPTY_SEARCH_OUTPUT);
+    }
+
+    private double Micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private String IdRanges(ImportReport report) {
+        if (report.RangeCount() == 0) {
+            return EMPTY_ID_RANGE;
+        }
+
+        StringBuilder ranges = new StringBuilder();
+        int i = 0;
+
+        while (i < report.RangeCount()) {
+            if (i > 0) {
+                ranges.append(ID_RANGE_SEPARATOR);
+            }
+
+            ranges.append(String.format(ID_RANGE_FORMAT, report.FirstId(i), report.LastId(i)));
+            i++;
+        }
+
+        return ranges.toString();
+    }
+}
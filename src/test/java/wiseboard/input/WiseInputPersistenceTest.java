@@ -11,20 +11,37 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Properties;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import wiseboard.view.WiseOutput;
 
 public class WiseInputPersistenceTest {
 
-    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
-    private static final Path LAST_ID_FILE = DB_DIR.resolve("lastId.txt");
     private static final Path DATA_JSON_FILE = Paths.get("data.json");
+    private static final Path IMPORT_FILE = Paths.get("import.ndjson");
+    private static final Path EXPORT_FILE = Paths.get("export.json");
+
+    private Path dbDir;
+    private Path lastIdFile;
+    private Properties savedProperties;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        savedProperties = (Properties) System.getProperties().clone();
+        dbDir = Files.createTempDirectory("wise-input");
+        lastIdFile = dbDir.resolve("lastId.txt");
+        System.setProperty("wiseboard.dbDir", dbDir.toString());
+    }
 
     @AfterEach
     void Cleanup() {
+        System.setProperties(savedProperties);
         DeleteIfExists(DATA_JSON_FILE);
-        DeleteDirectoryRecursively(DB_DIR);
+        DeleteIfExists(IMPORT_FILE);
+        DeleteIfExists(EXPORT_FILE);
+        DeleteDirectoryRecursively(dbDir);
     }
 
     @Test
@@ -43,20 +60,20 @@ public class WiseInputPersistenceTest {
 
         assertThat(result.exception()).isNull();
 
-        assertThat(Files.exists(DB_DIR)).isTrue();
-        assertThat(Files.exists(DB_DIR.resolve("1.json"))).isTrue();
-        assertThat(Files.exists(DB_DIR.resolve("2.json"))).isTrue();
-        assertThat(Files.exists(LAST_ID_FILE)).isTrue();
+        assertThat(Files.exists(dbDir)).isTrue();
+        assertThat(Files.exists(dbDir.resolve("1.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("2.json"))).isTrue();
+        assertThat(Files.exists(lastIdFile)).isTrue();
 
-        String lastId = ReadText(LAST_ID_FILE);
+        String lastId = ReadText(lastIdFile);
         assertThat(lastId).isEqualTo("2");
 
-        String json1 = ReadText(DB_DIR.resolve("1.json"));
+        String json1 = ReadText(dbDir.resolve("1.json"));
         assertThat(json1).contains("\"id\": 1");
         assertThat(json1).contains("\"content\": \"옛날통닭 두마리\"");
         assertThat(json1).contains("\"author\": \"오상민\"");
 
-        String json2 = ReadText(DB_DIR.resolve("2.json"));
+        String json2 = ReadText(dbDir.resolve("2.json"));
         assertThat(json2).contains("\"id\": 2");
         assertThat(json2).contains("\"content\": \"콜라는 펩시로\"");
         assertThat(json2).contains("\"author\": \"오상민\"");
@@ -99,6 +116,42 @@ public class WiseInputPersistenceTest {
         assertThat(idx2).isLessThan(idx1);
     }
 
+    @Test
+    void 로드_리포트_테스트() {
+        AppResult firstRun = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        등록
+                        사이다는 칠성
+                        오상민
+                        삭제?id=2
+                        종료
+                        """
+        );
+
+        assertThat(firstRun.exception()).isNull();
+
+        AppResult secondRun = RunWiseInput(
+                """
+                        등록
+                        국장 하지마라
+                        오상민
+                        종료
+                        """
+        );
+
+        assertThat(secondRun.exception()).isNull();
+
+        String out = secondRun.output();
+        assertThat(out).contains("명언 2개를 불러왔습니다. (파일 2개");
+        assertThat(out).contains("4번 명언이 등록되었습니다.");
+    }
+
     @Test
     void 수정_테스트() {
         AppResult result = RunWiseInput(
@@ -115,7 +168,7 @@ public class WiseInputPersistenceTest {
 
         assertThat(result.exception()).isNull();
 
-        String json1 = ReadText(DB_DIR.resolve("1.json"));
+        String json1 = ReadText(dbDir.resolve("1.json"));
         assertThat(json1).contains("\"id\": 1");
         assertThat(json1).contains("\"content\": \"옛날통닭 한마리\"");
         assertThat(json1).contains("\"author\": \"오상민\"");
@@ -138,10 +191,10 @@ public class WiseInputPersistenceTest {
 
         assertThat(result.exception()).isNull();
 
-        assertThat(Files.exists(DB_DIR.resolve("1.json"))).isFalse();
-        assertThat(Files.exists(DB_DIR.resolve("2.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("1.json"))).isFalse();
+        assertThat(Files.exists(dbDir.resolve("2.json"))).isTrue();
 
-        String lastId = ReadText(LAST_ID_FILE);
+        String lastId = ReadText(lastIdFile);
         assertThat(lastId).isEqualTo("2");
     }
 
@@ -179,6 +232,92 @@ public class WiseInputPersistenceTest {
         assertThat(dataJson).doesNotContain("\"id\": 1");
     }
 
+    @Test
+    void 가져오기_내보내기_테스트() throws IOException {
+        Files.writeString(IMPORT_FILE, """
+                {"content": "옛날통닭 두마리", "author": "오상민"}
+                {"id": 99, "content": "?!!@", "author": "오상민"}
+                {"content": "콜라는 펩시로", "author": "작자미상"}
+                """, StandardCharsets.UTF_8);
+
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        현재를 사랑하라
+                        작자미상
+                        가져오기?file=import.ndjson
+                        내보내기?file=export.json
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+        assertThat(result.output()).contains("명언 2개를 가져왔습니다. (번호 2 ~ 3, 제외 1개");
+        assertThat(result.output()).contains("명언 3개를 export.json 파일로 내보냈습니다.");
+
+        assertThat(Files.exists(dbDir.resolve("3.json"))).isTrue();
+        assertThat(ReadText(lastIdFile)).isEqualTo("3");
+
+        String exported = ReadText(EXPORT_FILE);
+        assertThat(exported).startsWith("[");
+        assertThat(exported).contains("\"id\": 2");
+        assertThat(exported).contains("\"content\": \"콜라는 펩시로\"");
+        assertThat(exported).doesNotContain("99");
+    }
+
+    @Test
+    void 지연_로드_테스트() {
+        AppResult firstRun = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        종료
+                        """
+        );
+
+        assertThat(firstRun.exception()).isNull();
+        System.setProperty("wiseboard.store", "lazy");
+        System.setProperty("wiseboard.cacheBytes", "1");
+
+        AppResult secondRun = RunWiseInput(
+                """
+                        목록
+                        수정?id=1
+                        양념통닭 두마리
+                        오상민
+                        목록?author=오상민
+                        """
+        );
+
+        assertThat(secondRun.output()).contains("명언 2개를 불러왔습니다.");
+        assertThat(secondRun.output()).contains("2 / 오상민 / 콜라는 펩시로");
+        assertThat(secondRun.output()).contains("1 / 오상민 / 옛날통닭 두마리");
+        assertThat(secondRun.exception()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(secondRun.exception().getMessage()).contains("lazy 모드에서는 검색과 작가별 목록을");
+        assertThat(ReadText(dbDir.resolve("1.json"))).contains("\"content\": \"양념통닭 두마리\"");
+    }
+
+    @Test
+    void 쓰기_지연_오류_종료_테스트() {
+        System.setProperty("wiseboard.writeBehind", "true");
+
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        삭제?id=abc
+                        """
+        );
+
+        assertThat(result.exception()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(ReadText(dbDir.resolve("1.json"))).contains("\"content\": \"옛날통닭 두마리\"");
+    }
+
     private AppResult RunWiseInput(String input) {
         PrintStream originalOut = System.out;
         java.io.InputStream originalIn = System.in;
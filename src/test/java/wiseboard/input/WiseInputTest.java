@@ -4,13 +4,37 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import wiseboard.repository.StorageException;
 import wiseboard.view.WiseOutput;
 
 public class WiseInputTest {
 
+    private Path dbDir;
+    private Properties savedProperties;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        savedProperties = (Properties) System.getProperties().clone();
+        dbDir = Files.createTempDirectory("wise-input");
+        System.setProperty("wiseboard.dbDir", dbDir.toString());
+    }
+
+    @AfterEach
+    void Cleanup() {
+        System.setProperties(savedProperties);
+        DeleteDirectoryRecursively(dbDir);
+    }
+
     @Test
     void 등록_테스트() {
         AppResult result = RunWiseInput(
@@ -116,6 +140,141 @@ public class WiseInputTest {
         assertThat(idx2).isLessThan(idx1);
     }
 
+    @Test
+    void 목록_페이지_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        등록
+                        사이다는 칠성
+                        오상민
+                        목록?page=2&size=2
+                        목록?from=2&to=3
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+
+        String out = result.output();
+        assertThat(out).contains("1 / 오상민 / 옛날통닭 두마리");
+        assertThat(out).contains("페이지 : 2 / 2 (총 3개)");
+        assertThat(out).contains("페이지 : 1 / 1 (총 2개)");
+    }
+
+    @Test
+    void 목록_페이지_정수_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        목록?page=끼얏호우
+                        """
+        );
+
+        assertThat(result.exception()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(result.exception().getMessage()).contains("[ERROR]");
+    }
+
+    @Test
+    void 작가_목록_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        등록
+                        사이다는 칠성
+                        오상민
+                        수정?id=2
+                        콜라는 코카콜라
+                        홍길동
+                        삭제?id=3
+                        목록?author=오상민
+                        목록?author=홍길동
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+
+        String out = result.output();
+        assertThat(out).contains("오상민 작가의 명언은 총 1개입니다.");
+        assertThat(out).contains("1 / 오상민 / 옛날통닭 두마리");
+        assertThat(out).contains("홍길동 작가의 명언은 총 1개입니다.");
+        assertThat(out).contains("2 / 홍길동 / 콜라는 코카콜라");
+        assertThat(out).doesNotContain("3 / 오상민 / 사이다는 칠성");
+    }
+
+    @Test
+    void 검색_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        수정?id=2
+                        통닭에는 콜라
+                        홍길동
+                        검색?keyword=통닭
+                        검색?keyword=피자
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+
+        String out = result.output();
+        assertThat(out).contains("2 / 홍길동 / 통닭에는 콜라");
+        assertThat(out).contains("1 / 오상민 / 옛날통닭 두마리");
+        assertThat(out).contains("페이지 : 1 / 1 (총 2개)");
+        assertThat(out).contains("검색 결과가 없습니다.");
+    }
+
+    @Test
+    void 메모리_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        콜라는 펩시로
+                        오상민
+                        메모리
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+
+        String out = result.output();
+        assertThat(out).contains("명언 2개, 작가 1명");
+        assertThat(out).contains("기존 표현 : 명언당 ");
+        assertThat(out).contains("현재 표현 : 명언당 ");
+    }
+
+    @Test
+    void 검색어_특수문자_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        검색?keyword=통닭!
+                        """
+        );
+
+        assertThat(result.exception()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(result.exception().getMessage()).contains("[ERROR]");
+    }
+
     @Test
     void 빈_목록_테스트() {
         AppResult result = RunWiseInput(
@@ -242,6 +401,103 @@ public class WiseInputTest {
         assertThat(out).contains("2번 명언은 존재하지 않습니다.");
     }
 
+    @Test
+    void 배치_모드_테스트() {
+        System.setProperty("wiseboard.batch", "true");
+
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        삭제?id=abc
+                        잘못된명령
+                        등록
+                        현재를 사랑하라
+                        작자미상
+                        목록
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+
+        String out = result.output();
+        assertThat(out).doesNotContain("명령) ");
+        assertThat(out).doesNotContain("명언 : ");
+        assertThat(out).contains("4번째 줄 : [ERROR]");
+        assertThat(out).contains("5번째 줄 : [ERROR]");
+        assertThat(out).contains("2번 명언이 등록되었습니다.");
+        assertThat(out).contains("2 / 작자미상 / 현재를 사랑하라");
+        assertThat(out).contains("명령 5개를");
+        assertThat(out).contains("오류 2개");
+    }
+
+    @Test
+    void 배치_모드_저장_실패_테스트() throws IOException {
+        System.setProperty("wiseboard.batch", "true");
+        Files.createDirectories(dbDir.resolve("lastId.txt.tmp").resolve("blocked"));
+
+        AppResult result = RunWiseInput(
+                """
+                        삭제?id=abc
+                        등록
+                        옛날통닭 두마리
+                        오상민
+                        등록
+                        현재를 사랑하라
+                        작자미상
+                        """
+        );
+
+        assertThat(result.exception()).isInstanceOf(StorageException.class);
+
+        String out = result.output();
+        assertThat(out).contains("1번째 줄 : [ERROR]");
+        assertThat(out).contains("2번째 줄 : [ERROR]");
+        assertThat(out).doesNotContain("5번째 줄");
+        assertThat(out).doesNotContain("명령 ");
+    }
+
+    @Test
+    void 통계_테스트() throws IOException {
+        Path dump = dbDir.resolve("metrics.json");
+        System.setProperty("wiseboard.metrics", "true");
+        System.setProperty("wiseboard.metricsFile", dump.toString());
+
+        AppResult result = RunWiseInput(
+                """
+                        등록
+                        현재를 사랑하라
+                        작자미상
+                        목록
+                        통계
+                        종료
+                        """
+        );
+
+        assertThat(result.exception()).isNull();
+        assertThat(result.output()).contains("항목 / 횟수 / 실패 / p50 / p99 / p999 / 최대 (us)");
+        assertThat(result.output()).contains("등록 / 1 / 0 / ");
+        assertThat(result.output()).contains("목록 / 1 / 0 / ");
+        assertThat(result.output()).contains("명언 파일 쓰기 / 1 / 0 / ");
+
+        String json = Files.readString(dump, StandardCharsets.UTF_8);
+        assertThat(json).contains("{\"name\":\"command.stats\",\"count\":1,");
+        assertThat(json).contains("\"name\":\"io.quoteFileWrite\"");
+    }
+
+    @Test
+    void 통계_꺼짐_테스트() {
+        AppResult result = RunWiseInput(
+                """
+                        통계
+                        """
+        );
+
+        assertThat(result.exception()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(result.exception().getMessage()).contains("--metrics=true");
+    }
+
     private AppResult RunWiseInput(String input) {
         PrintStream originalOut = System.out;
         java.io.InputStream originalIn = System.in;
@@ -281,6 +537,26 @@ public class WiseInputTest {
         return idx;
     }
 
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+
     private record AppResult(String output, Throwable exception) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package wiseboard.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.repository.WiseRepository;
+
+public class RepositoryEventTest {
+
+    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
+    private static final Path DATA_JSON_FILE = Paths.get("data.json");
+    private static final Path RECORDING_FILE = Paths.get("repository-event-test.jfr");
+
+    @AfterEach
+    void Cleanup() throws IOException {
+        Files.deleteIfExists(DATA_JSON_FILE);
+        Files.deleteIfExists(RECORDING_FILE);
+        DeleteDirectoryRecursively(DB_DIR);
+    }
+
+    @Test
+    void 저장소_입출력_이벤트_테스트() throws IOException {
+        Recording recording = new Recording();
+        recording.enable(RepositoryLoadEvent.class);
+        recording.enable(QuoteFileWriteEvent.class);
+        recording.enable(QuoteFileDeleteEvent.class);
+        recording.enable(DataJsonBuildEvent.class);
+        recording.start();
+
+        WiseRepository repository = new WiseRepository();
+        int id = repository.Save("작자미상", "현재를 사랑하라").id();
+        repository.BuildDataJson();
+        repository.DeleteById(id);
+        repository.Close();
+
+        recording.stop();
+        recording.dump(RECORDING_FILE);
+        recording.close();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(RECORDING_FILE);
+
+        RecordedEvent write = Find(events, "wiseboard.QuoteFileWrite");
+        assertThat(write).isNotNull();
+        assertThat(write.getInt("id")).isEqualTo(id);
+        assertThat(write.getLong("bytes") > 0).isTrue();
+
+        RecordedEvent delete = Find(events, "wiseboard.QuoteFileDelete");
+        assertThat(delete).isNotNull();
+        assertThat(delete.getLong("bytes")).isEqualTo(write.getLong("bytes"));
+
+        RecordedEvent build = Find(events, "wiseboard.DataJsonBuild");
+        assertThat(build).isNotNull();
+        assertThat(build.getInt("quoteCount")).isEqualTo(1);
+        assertThat(build.getLong("bytes")).isEqualTo(Files.size(DATA_JSON_FILE));
+
+        assertThat(Find(events, "wiseboard.RepositoryLoad")).isNotNull();
+    }
+
+    private RecordedEvent Find(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+
+        return null;
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package wiseboard.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void 버킷_경계_테스트() {
+        long value = 0;
+
+        while (value < 1_000_000) {
+            int index = LatencyHistogram.IndexOf(value);
+
+            assertThat(LatencyHistogram.UpperBoundOf(index) >= value).isTrue();
+            assertThat(LatencyHistogram.UpperBoundOf(index) - value <= value / 16).isTrue();
+            value = value * 3 / 2 + 1;
+        }
+
+        assertThat(LatencyHistogram.IndexOf(Long.MAX_VALUE) > LatencyHistogram.IndexOf(1L << 40)).isTrue();
+    }
+
+    @Test
+    void 백분위_테스트() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int i = 1;
+
+        while (i <= 1000) {
+            histogram.Record(i * 1000L, i % 100 == 0);
+            i++;
+        }
+
+        MetricSnapshot snapshot = histogram.Snapshot(Metric.COMMAND_REGISTER);
+
+        assertThat(snapshot.count()).isEqualTo(1000L);
+        assertThat(snapshot.failures()).isEqualTo(10L);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000_000L);
+        assertThat(Math.abs(snapshot.p50Nanos() - 500_000) <= 500_000 / 16).isTrue();
+        assertThat(Math.abs(snapshot.p99Nanos() - 990_000) <= 990_000 / 16).isTrue();
+        assertThat(snapshot.p999Nanos() <= snapshot.maxNanos()).isTrue();
+
+        histogram.Reset();
+
+        assertThat(histogram.Snapshot(Metric.COMMAND_REGISTER).count()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,55 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class CompactQuoteSlotsTest {
+
+    @Test
+    void 작가_사전_테스트() {
+        CompactQuoteSlots slots = new CompactQuoteSlots(false);
+        QuoteIndex index = new QuoteIndex(slots);
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        index.Add(new WiseQuote(2, new String("오상민"), "콜라는 펩시로"));
+        index.Add(new WiseQuote(3, "홍길동", "사이다는 칠성"));
+
+        assertThat(slots.AuthorCount()).isEqualTo(2);
+
+        index.Replace(new WiseQuote(3, "오상민", "사이다는 칠성"));
+        index.Remove(2);
+
+        assertThat(slots.AuthorCount()).isEqualTo(1);
+        assertThat(index.Get(1).author()).isEqualTo("오상민");
+        assertThat(index.Get(3).author()).isEqualTo("오상민");
+        assertThat(index.Get(2)).isNull();
+    }
+
+    @Test
+    void 내용_바이트_저장_테스트() {
+        QuoteIndex index = new QuoteIndex(new CompactQuoteSlots(true));
+        index.Add(new WiseQuote(1, "Steve Jobs", "Stay hungry stay foolish"));
+        index.Add(new WiseQuote(2, "오상민", "옛날통닭 두마리"));
+
+        assertThat(index.Get(1).content()).isEqualTo("Stay hungry stay foolish");
+        assertThat(index.Get(2).content()).isEqualTo("옛날통닭 두마리");
+    }
+
+    @Test
+    void 명언당_바이트_감소_테스트() {
+        QuoteIndex index = new QuoteIndex(new CompactQuoteSlots(false));
+        int id = 1;
+
+        while (id <= 1000) {
+            index.Add(new WiseQuote(id, new String("작가" + (id % 10)), "명언" + id));
+            id++;
+        }
+
+        MemoryUsage usage = index.MemoryUsage();
+
+        assertThat(usage.quoteCount()).isEqualTo(1000);
+        assertThat(usage.authorCount()).isEqualTo(10);
+        assertThat(usage.BytesPerQuote()).isLessThan(usage.LegacyBytesPerQuote());
+    }
+}
@@ -0,0 +1,112 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class DataJsonWriterTest {
+
+    private Path file;
+    private Path compressedFile;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        file = Files.createTempFile("data", ".json");
+        compressedFile = file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    @AfterEach
+    void Cleanup() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(compressedFile);
+    }
+
+    @Test
+    void 형식_테스트() throws IOException {
+        QuoteIndex quotes = new QuoteIndex();
+        quotes.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        quotes.Add(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+
+        new DataJsonWriter(file).Write(quotes);
+
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo("""
+                [
+                  {
+                    "id": 1,
+                    "content": "옛날통닭 두마리",
+                    "author": "오상민"
+                  },
+                  {
+                    "id": 2,
+                    "content": "콜라는 펩시로",
+                    "author": "오상민"
+                  }
+                ]
+                """);
+    }
+
+    @Test
+    void 빈_목록_테스트() throws IOException {
+        new DataJsonWriter(file).Write(new QuoteIndex());
+
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo("[\n]\n");
+    }
+
+    @Test
+    void 변경분만_다시_렌더링_테스트() throws IOException {
+        QuoteIndex quotes = new QuoteIndex();
+        int id = 1;
+
+        while (id <= 100) {
+            quotes.Add(new WiseQuote(id, "작가", "명언 " + id));
+            id++;
+        }
+
+        DataJsonWriter writer = new DataJsonWriter(file);
+        writer.Write(quotes);
+        assertThat(writer.RenderedCount()).isEqualTo(100);
+
+        quotes.Replace(new WiseQuote(7, "홍길동", "수정된 명언"));
+        quotes.Remove(8);
+        writer.Write(quotes);
+
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+
+        assertThat(writer.RenderedCount()).isEqualTo(1);
+        assertThat(json).contains("\"content\": \"수정된 명언\"");
+        assertThat(json).doesNotContain("\"id\": 8,");
+    }
+
+    @Test
+    void 압축_파일_테스트() throws IOException {
+        QuoteIndex quotes = new QuoteIndex();
+        int id = 1;
+
+        while (id <= 500) {
+            quotes.Add(new WiseQuote(id, "작가", "천 리 길도 한 걸음부터"));
+            id++;
+        }
+
+        DataJsonWriter writer = new DataJsonWriter(file, true, new BlockCompressor(6));
+        writer.Write(quotes);
+        CompressionReport report = writer.Compress();
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressedFile))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(Files.readString(file, StandardCharsets.UTF_8));
+        }
+
+        assertThat(report.rawBytes()).isEqualTo(Files.size(file));
+        assertThat(report.compressedBytes()).isEqualTo(Files.size(compressedFile));
+        assertThat(report.RatioPercent()).isLessThan(10L);
+    }
+}
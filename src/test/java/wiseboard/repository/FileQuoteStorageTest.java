@@ -0,0 +1,252 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class FileQuoteStorageTest {
+
+    private Path dbDir;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        dbDir = Files.createTempDirectory("wise-file");
+    }
+
+    @AfterEach
+    void Cleanup() {
+        DeleteDirectoryRecursively(dbDir);
+    }
+
+    @Test
+    void 번호_블록_예약_테스트() throws IOException {
+        FileQuoteStorage storage = new FileQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+
+        assertThat(ReadLastId()).isEqualTo("1001");
+
+        storage.Close();
+
+        assertThat(ReadLastId()).isEqualTo("2");
+    }
+
+    @Test
+    void 비정상_종료_후_번호_재사용_금지_테스트() throws IOException {
+        FileQuoteStorage storage = new FileQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+        storage.WriteDelete(2);
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage reopened = new FileQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.Close();
+
+        assertThat(quotes.Size()).isEqualTo(1);
+        assertThat(lastId).isEqualTo(1001);
+        assertThat(ReadLastId()).isEqualTo("1001");
+    }
+
+    @Test
+    void 번호_파일_원자적_교체_테스트() throws IOException {
+        FileQuoteStorage storage = new FileQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+        storage.WriteDelete(2);
+
+        assertThat(Files.exists(dbDir.resolve("lastId.txt.tmp"))).isFalse();
+
+        Files.writeString(dbDir.resolve("lastId.txt.tmp"), "", StandardCharsets.UTF_8);
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage reopened = new FileQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.Close();
+
+        assertThat(lastId).isEqualTo(1001);
+        assertThat(ReadLastId()).isEqualTo("1001");
+    }
+
+    @Test
+    void 과거_시각_파일_교체_테스트() throws IOException {
+        FileQuoteStorage storage = new FileQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.Close();
+
+        QuoteIndex quotes = new QuoteIndex();
+        quotes.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        StorageMark mark = new StorageMark(0, System.currentTimeMillis());
+
+        Path quoteFile = dbDir.resolve("1.json");
+        Files.writeString(quoteFile, "{\"id\": 1, \"content\": \"백업에서 복원\", \"author\": \"오상민\"}",
+                StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(quoteFile, FileTime.fromMillis(0));
+
+        FileQuoteStorage reopened = new FileQuoteStorage(dbDir);
+        reopened.LoadAfter(quotes, mark);
+        reopened.Close();
+
+        assertThat(quotes.Get(1).content()).isEqualTo("백업에서 복원");
+    }
+
+    @Test
+    void 샤드_배치_테스트() {
+        FileQuoteStorage storage = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(7, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(1234, "오상민", "콜라는 펩시로"));
+        storage.WriteRegister(new WiseQuote(1234567, "작자미상", "현재를 사랑하라"));
+        storage.WriteDelete(7);
+        storage.Close();
+
+        assertThat(Files.exists(dbDir.resolve("00").resolve("00").resolve("7.json"))).isFalse();
+        assertThat(Files.exists(dbDir.resolve("00").resolve("12").resolve("1234.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("123").resolve("45").resolve("1234567.json"))).isTrue();
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage reopened = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        reopened.Load(quotes);
+        reopened.Close();
+
+        assertThat(quotes.Size()).isEqualTo(2);
+        assertThat(quotes.Get(1234).content()).isEqualTo("콜라는 펩시로");
+    }
+
+    @Test
+    void 샤드_이전_테스트() {
+        FileQuoteStorage flat = new FileQuoteStorage(dbDir);
+        flat.Load(new QuoteIndex());
+        int i = 1;
+
+        while (i <= 250) {
+            flat.WriteRegister(new WiseQuote(i, "작가", "명언 " + i));
+            i++;
+        }
+
+        flat.Close();
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage sharded = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        sharded.Load(quotes);
+        sharded.WriteModify(new WiseQuote(100, "작가", "수정된 명언"));
+        sharded.WriteDelete(200);
+        sharded.AwaitMigration();
+
+        assertThat(quotes.Size()).isEqualTo(250);
+        assertThat(sharded.MigratedCount()).isEqualTo(250);
+        assertThat(sharded.UnmigratedCount()).isEqualTo(0);
+        assertThat(Files.exists(dbDir.resolve("100.json"))).isFalse();
+        assertThat(Files.exists(dbDir.resolve("00").resolve("02").resolve("250.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("00").resolve("02").resolve("200.json"))).isFalse();
+        sharded.Close();
+
+        QuoteIndex reloaded = new QuoteIndex();
+        FileQuoteStorage reopened = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        reopened.Load(reloaded);
+        reopened.Close();
+
+        assertThat(reloaded.Size()).isEqualTo(249);
+        assertThat(reloaded.Get(100).content()).isEqualTo("수정된 명언");
+        assertThat(reloaded.Get(200)).isNull();
+    }
+
+    @Test
+    void 샤드_이전_실패_보존_테스트() throws IOException {
+        FileQuoteStorage flat = new FileQuoteStorage(dbDir);
+        flat.Load(new QuoteIndex());
+        flat.WriteRegister(new WiseQuote(5, "작가", "막힌 명언"));
+        flat.WriteRegister(new WiseQuote(15000, "작가", "옮길 명언"));
+        flat.Close();
+        Files.writeString(dbDir.resolve("00"), "", StandardCharsets.UTF_8);
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage sharded = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        sharded.Load(quotes);
+        sharded.AwaitMigration();
+
+        assertThat(sharded.MigratedCount()).isEqualTo(1);
+        assertThat(sharded.FailedMigrationCount()).isEqualTo(1);
+        assertThat(sharded.UnmigratedCount()).isEqualTo(1);
+        assertThat(Files.exists(dbDir.resolve("5.json"))).isTrue();
+        assertThat(sharded.ReadQuote(5).content()).isEqualTo("막힌 명언");
+        assertThat(sharded.ReadQuote(15000).content()).isEqualTo("옮길 명언");
+        sharded.Close();
+    }
+
+    @Test
+    void 번호가_아닌_파일_무시_테스트() throws IOException {
+        FileQuoteStorage flat = new FileQuoteStorage(dbDir);
+        flat.Load(new QuoteIndex());
+        flat.WriteRegister(new WiseQuote(1, "작가", "명언"));
+        flat.Close();
+        Files.writeString(dbDir.resolve("01.json"), "{}", StandardCharsets.UTF_8);
+        Files.writeString(dbDir.resolve("0.json"), "{}", StandardCharsets.UTF_8);
+        Files.writeString(dbDir.resolve("backup.json"), "{}", StandardCharsets.UTF_8);
+
+        QuoteIndex quotes = new QuoteIndex();
+        FileQuoteStorage sharded = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        int fileCount = sharded.Load(quotes).fileCount();
+        sharded.AwaitMigration();
+        sharded.Close();
+
+        assertThat(fileCount).isEqualTo(1);
+        assertThat(quotes.Size()).isEqualTo(1);
+        assertThat(sharded.MigratedCount()).isEqualTo(1);
+        assertThat(Files.exists(dbDir.resolve("00").resolve("00").resolve("1.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("01.json"))).isTrue();
+        assertThat(Files.exists(dbDir.resolve("0.json"))).isTrue();
+    }
+
+    @Test
+    void 배치_불일치_테스트() {
+        FileQuoteStorage sharded = new FileQuoteStorage(dbDir, DurabilityPolicy.ASYNC, QuoteLayout.SHARDED);
+        sharded.Load(new QuoteIndex());
+        sharded.WriteRegister(new WiseQuote(1, "작가", "명언"));
+        sharded.Close();
+
+        FileQuoteStorage flat = new FileQuoteStorage(dbDir);
+
+        assertThatThrownBy(() -> flat.Load(new QuoteIndex()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--layout=sharded");
+    }
+
+    private String ReadLastId() throws IOException {
+        return Files.readString(dbDir.resolve("lastId.txt"), StandardCharsets.UTF_8);
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
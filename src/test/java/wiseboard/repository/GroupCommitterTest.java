@@ -0,0 +1,215 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class GroupCommitterTest {
+
+    @Test
+    void 매번_동기화_테스트() {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.SYNC, 0, 0),
+                syncs::incrementAndGet);
+
+        committer.Written();
+        committer.Written();
+        committer.Written();
+        committer.Close();
+
+        assertThat(syncs.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 발급_후_동기화_테스트() {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.SYNC, 0, 0),
+                syncs::incrementAndGet);
+
+        long first = committer.Issue();
+        long second = committer.Issue();
+        committer.SyncNow();
+        committer.Await(first);
+        committer.Await(second);
+        committer.Close();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(syncs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 비동기_테스트() {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(DurabilityPolicy.ASYNC, syncs::incrementAndGet);
+
+        committer.Written();
+        committer.Written();
+        committer.Close();
+
+        assertThat(syncs.get()).isEqualTo(0);
+    }
+
+    @Test
+    void 묶음_동기화_테스트() {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.GROUP, 1000, 4),
+                syncs::incrementAndGet);
+
+        committer.BeginBatch();
+        int i = 0;
+
+        while (i < 100) {
+            committer.Written();
+            i++;
+        }
+
+        committer.CommitBatch();
+        committer.Close();
+
+        assertThat(syncs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_스레드_묶음_테스트() throws InterruptedException {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.GROUP, 10, 1000),
+                syncs::incrementAndGet);
+        Thread batchOwner = new Thread(() -> {
+            committer.BeginBatch();
+            committer.Written();
+        });
+        batchOwner.start();
+        batchOwner.join();
+
+        committer.Written();
+        int afterOtherWrite = syncs.get();
+
+        committer.Close();
+
+        assertThat(afterOtherWrite).isEqualTo(1);
+    }
+
+    @Test
+    void 그룹_커밋_테스트() throws InterruptedException {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.GROUP, 20, 8),
+                syncs::incrementAndGet);
+        Thread[] writers = new Thread[8];
+        int i = 0;
+
+        while (i < writers.length) {
+            writers[i] = new Thread(() -> {
+                int j = 0;
+
+                while (j < 10) {
+                    committer.Written();
+                    j++;
+                }
+            });
+            writers[i].start();
+            i++;
+        }
+
+        i = 0;
+
+        while (i < writers.length) {
+            writers[i].join();
+            i++;
+        }
+
+        committer.Close();
+
+        assertThat(syncs.get()).isGreaterThan(0);
+        assertThat(syncs.get()).isLessThan(80);
+    }
+
+    @Test
+    void 일시_동기화_실패_회복_테스트() {
+        AtomicInteger failures = new AtomicInteger(1);
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.GROUP, 1, 1), () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IOException("디스크 오류");
+            }
+        });
+
+        assertThatThrownBy(committer::Written)
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("디스크 동기화에 실패했습니다");
+
+        committer.Written();
+        committer.Close();
+    }
+
+    @Test
+    void 매번_동기화_실패_회복_테스트() {
+        AtomicInteger failures = new AtomicInteger(1);
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.SYNC, 0, 0), () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IOException("디스크 오류");
+            }
+        });
+
+        assertThatThrownBy(committer::Written).isInstanceOf(StorageException.class);
+
+        committer.Written();
+        committer.Close();
+    }
+
+    @Test
+    void 동기화_스레드_인터럽트_테스트() throws InterruptedException {
+        AtomicInteger syncs = new AtomicInteger();
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.GROUP, 50, 1000),
+                syncs::incrementAndGet);
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("wise-group-commit")) {
+                thread.interrupt();
+            }
+        }
+
+        Thread writer = new Thread(() -> {
+            committer.Written();
+            committer.Written();
+        });
+        writer.start();
+        writer.join(5000);
+
+        assertThat(writer.isAlive()).isFalse();
+        assertThat(syncs.get()).isEqualTo(2);
+        committer.Close();
+    }
+
+    @Test
+    void 동기화_중_발급_테스트() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitter committer = new GroupCommitter(new DurabilityPolicy(Durability.SYNC, 0, 0), () -> {
+            entered.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread writer = new Thread(committer::Written);
+        writer.start();
+        entered.await();
+
+        Thread issuer = new Thread(committer::Issue);
+        issuer.start();
+        issuer.join(5000);
+        boolean issuedDuringSync = !issuer.isAlive();
+
+        release.countDown();
+        writer.join();
+        issuer.join();
+        committer.Close();
+
+        assertThat(issuedDuringSync).isTrue();
+    }
+}
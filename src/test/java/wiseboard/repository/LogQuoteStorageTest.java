@@ -0,0 +1,172 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class LogQuoteStorageTest {
+
+    private Path dbDir;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        dbDir = Files.createTempDirectory("wise-log");
+    }
+
+    @AfterEach
+    void Cleanup() {
+        DeleteDirectoryRecursively(dbDir);
+    }
+
+    @Test
+    void 재시작_복원_테스트() {
+        LogQuoteStorage storage = new LogQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+        storage.WriteModify(new WiseQuote(2, "홍길동", "콜라는 코카콜라"));
+        storage.WriteDelete(1);
+        storage.Close();
+
+        QuoteIndex quotes = new QuoteIndex();
+        LogQuoteStorage reopened = new LogQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.Close();
+
+        assertThat(lastId).isEqualTo(2);
+        assertThat(quotes.Size()).isEqualTo(1);
+        assertThat(quotes.Get(1)).isNull();
+        assertThat(quotes.Get(2).content()).isEqualTo("콜라는 코카콜라");
+        assertThat(quotes.Get(2).author()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 잘린_레코드_복구_테스트() throws IOException {
+        LogQuoteStorage storage = new LogQuoteStorage(dbDir);
+        storage.Load(new QuoteIndex());
+        storage.WriteRegister(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        storage.WriteRegister(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+        storage.Close();
+
+        Path segment = dbDir.resolve("segment-00000001.log");
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        QuoteIndex quotes = new QuoteIndex();
+        LogQuoteStorage reopened = new LogQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.WriteRegister(new WiseQuote(2, "홍길동", "다시 등록"));
+        reopened.Close();
+
+        assertThat(lastId).isEqualTo(1);
+        assertThat(quotes.Size()).isEqualTo(1);
+
+        QuoteIndex again = new QuoteIndex();
+        LogQuoteStorage third = new LogQuoteStorage(dbDir);
+        third.Load(again);
+        third.Close();
+
+        assertThat(again.Get(2).author()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 백그라운드_압축_테스트() {
+        LogQuoteStorage storage = new LogQuoteStorage(dbDir, 256);
+        storage.Load(new QuoteIndex());
+        int id = 1;
+
+        while (id <= 50) {
+            storage.WriteRegister(new WiseQuote(id, "작가", "명언 " + id));
+            id++;
+        }
+
+        id = 1;
+
+        while (id <= 40) {
+            storage.WriteDelete(id);
+            id++;
+        }
+
+        storage.AwaitCompaction();
+        int segments = storage.SegmentCount();
+        storage.Close();
+
+        QuoteIndex quotes = new QuoteIndex();
+        LogQuoteStorage reopened = new LogQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.Close();
+
+        assertThat(segments).isLessThan(10);
+        assertThat(lastId).isEqualTo(50);
+        assertThat(quotes.Size()).isEqualTo(10);
+        assertThat(quotes.Get(41).content()).isEqualTo("명언 41");
+    }
+
+    @Test
+    void 블록_압축_테스트() {
+        BlockCompressor compressor = new BlockCompressor(6);
+        LogQuoteStorage storage = new LogQuoteStorage(dbDir, 4096, DurabilityPolicy.ASYNC, compressor);
+        storage.Load(new QuoteIndex());
+        int id = 1;
+
+        while (id <= 3000) {
+            storage.WriteRegister(new WiseQuote(id, "작가", "오늘 걷지 않으면 내일은 뛰어야 한다 " + id));
+            id++;
+        }
+
+        id = 1;
+
+        while (id <= 1200) {
+            storage.WriteDelete(id);
+            id++;
+        }
+
+        storage.AwaitCompaction();
+        storage.Close();
+
+        QuoteIndex quotes = new QuoteIndex();
+        LogQuoteStorage reopened = new LogQuoteStorage(dbDir);
+        int lastId = reopened.Load(quotes).lastId();
+        reopened.Close();
+
+        CompressionReport report = compressor.Report();
+
+        assertThat(report.rawBytes()).isGreaterThan((long) BlockCompressor.BLOCK_SIZE);
+        assertThat(report.RatioPercent()).isLessThan(50L);
+        assertThat(lastId).isEqualTo(3000);
+        assertThat(quotes.Size()).isEqualTo(1800);
+        assertThat(quotes.Get(1201).content()).isEqualTo("오늘 걷지 않으면 내일은 뛰어야 한다 1201");
+        assertThat(quotes.Get(3000).content()).isEqualTo("오늘 걷지 않으면 내일은 뛰어야 한다 3000");
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
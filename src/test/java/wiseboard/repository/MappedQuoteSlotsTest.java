@@ -0,0 +1,111 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+
+public class MappedQuoteSlotsTest {
+
+    private Path dir;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        dir = Files.createTempDirectory("wise-mapped");
+    }
+
+    @AfterEach
+    void Cleanup() {
+        DeleteDirectoryRecursively(dir);
+    }
+
+    @Test
+    void 매핑_조회_테스트() {
+        QuoteIndex index = new QuoteIndex(new MappedQuoteSlots(dir, 4096));
+        int id = 1;
+
+        while (id <= 500) {
+            index.Add(new WiseQuote(id, "작가" + id, "명언" + id));
+            id++;
+        }
+
+        index.Replace(new WiseQuote(7, "홍길동", "바뀐 명언"));
+        index.Remove(8);
+
+        QuotePage page = index.PageDesc(1, 3);
+        index.Close();
+
+        assertThat(page.quotes()[0].content()).isEqualTo("명언500");
+        assertThat(page.totalCount()).isEqualTo(499);
+        assertThat(index.Size()).isEqualTo(499);
+    }
+
+    @Test
+    void 매핑_수정_삭제_테스트() {
+        QuoteIndex index = new QuoteIndex(new MappedQuoteSlots(dir, 4096));
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        index.Add(new WiseQuote(3, "오상민", "콜라는 펩시로"));
+        index.Add(new WiseQuote(2, "홍길동", "사이다는 칠성"));
+        index.Replace(new WiseQuote(1, "오상민", "양념통닭 한마리"));
+
+        WiseQuote removed = index.Remove(3);
+        WiseQuote[] asc = index.ToArrayAsc();
+        WiseQuote first = index.Get(1);
+        index.Close();
+
+        assertThat(removed.content()).isEqualTo("콜라는 펩시로");
+        assertThat(asc.length).isEqualTo(2);
+        assertThat(asc[1].author()).isEqualTo("홍길동");
+        assertThat(first.content()).isEqualTo("양념통닭 한마리");
+    }
+
+    @Test
+    void 매핑_파일_압축_테스트() {
+        MappedQuoteSlots slots = new MappedQuoteSlots(dir, 1 << 16);
+        QuoteIndex index = new QuoteIndex(slots);
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        index.Add(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+        int round = 0;
+
+        while (round < 30000) {
+            index.Replace(new WiseQuote(1, "오상민", "옛날통닭 " + round + "마리"));
+            round++;
+        }
+
+        long liveBytes = slots.LiveBytes();
+        WiseQuote first = index.Get(1);
+        WiseQuote second = index.Get(2);
+        index.Close();
+
+        assertThat(first.content()).isEqualTo("옛날통닭 29999마리");
+        assertThat(second.content()).isEqualTo("콜라는 펩시로");
+        assertThat(liveBytes).isLessThan(200L);
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class QuoteCacheTest {
+
+    @Test
+    void 적중_실패_테스트() {
+        QuoteCache cache = new QuoteCache(1024 * 1024);
+
+        cache.Put(new WiseQuote(1, "작가", "명언"));
+
+        assertThat(cache.Get(1)).isEqualTo(new WiseQuote(1, "작가", "명언"));
+        assertThat(cache.Get(2)).isNull();
+        assertThat(cache.Hits()).isEqualTo(1);
+        assertThat(cache.Misses()).isEqualTo(1);
+    }
+
+    @Test
+    void 크기_기준_축출_테스트() {
+        WiseQuote sample = new WiseQuote(1, "작가", "명언");
+        long entryBytes = QuoteFootprint.LegacyQuoteBytes(sample) + 40;
+        QuoteCache cache = new QuoteCache(entryBytes * 3);
+
+        cache.Put(new WiseQuote(1, "작가", "명언"));
+        cache.Put(new WiseQuote(2, "작가", "명언"));
+        cache.Put(new WiseQuote(3, "작가", "명언"));
+        cache.Get(1);
+        cache.Put(new WiseQuote(4, "작가", "명언"));
+
+        assertThat(cache.Size()).isEqualTo(3);
+        assertThat(cache.Evictions()).isEqualTo(1);
+        assertThat(cache.Bytes()).isEqualTo(entryBytes * 3);
+        assertThat(cache.Get(2)).isNull();
+        assertThat(cache.Get(1)).isNotNull();
+        assertThat(cache.Get(4)).isNotNull();
+    }
+
+    @Test
+    void 큰_명언_축출_테스트() {
+        QuoteCache cache = new QuoteCache(512);
+
+        cache.Put(new WiseQuote(1, "작가", "명언"));
+        cache.Put(new WiseQuote(2, "작가", "가".repeat(1000)));
+
+        assertThat(cache.Size()).isEqualTo(1);
+        assertThat(cache.Get(1)).isNull();
+        assertThat(cache.Get(2)).isNotNull();
+    }
+}
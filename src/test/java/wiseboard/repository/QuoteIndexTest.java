@@ -0,0 +1,113 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+
+public class QuoteIndexTest {
+
+    @Test
+    void 조회_테스트() {
+        QuoteIndex index = new QuoteIndex();
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        index.Add(new WiseQuote(2, "오상민", "콜라는 펩시로"));
+
+        assertThat(index.Get(2).content()).isEqualTo("콜라는 펩시로");
+        assertThat(index.Get(3)).isNull();
+        assertThat(index.Size()).isEqualTo(2);
+    }
+
+    @Test
+    void 대량_삭제_후_역순_테스트() {
+        QuoteIndex index = new QuoteIndex();
+        int id = 1;
+
+        while (id <= 1000) {
+            index.Add(new WiseQuote(id, "작가" + id, "명언" + id));
+            id++;
+        }
+
+        id = 1;
+
+        while (id <= 1000) {
+            if (id % 3 != 0) {
+                index.Remove(id);
+            }
+
+            id++;
+        }
+
+        WiseQuote[] desc = index.ToArrayDesc();
+
+        assertThat(desc.length).isEqualTo(333);
+        assertThat(desc[0].id()).isEqualTo(999);
+        assertThat(desc[332].id()).isEqualTo(3);
+        assertThat(index.Get(999).author()).isEqualTo("작가999");
+        assertThat(index.Get(998)).isNull();
+    }
+
+    @Test
+    void 수정_테스트() {
+        QuoteIndex index = new QuoteIndex();
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+
+        assertThat(index.Replace(new WiseQuote(1, "홍길동", "옛날통닭 한마리"))).isTrue();
+        assertThat(index.Replace(new WiseQuote(2, "홍길동", "없는 명언"))).isFalse();
+        assertThat(index.Get(1).author()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 페이지_테스트() {
+        QuoteIndex index = new QuoteIndex();
+        int id = 1;
+
+        while (id <= 200) {
+            index.Add(new WiseQuote(id, "작가", "명언" + id));
+            id++;
+        }
+
+        id = 1;
+
+        while (id <= 200) {
+            if (id % 2 == 0) {
+                index.Remove(id);
+            }
+
+            id++;
+        }
+
+        QuotePage first = index.PageDesc(1, 10);
+        QuotePage last = index.PageDesc(10, 10);
+
+        assertThat(first.totalCount()).isEqualTo(100);
+        assertThat(first.totalPages()).isEqualTo(10);
+        assertThat(first.quotes()[0].id()).isEqualTo(199);
+        assertThat(first.quotes()[9].id()).isEqualTo(181);
+        assertThat(last.quotes()[9].id()).isEqualTo(1);
+        assertThat(index.PageDesc(11, 10).quotes().length).isEqualTo(0);
+    }
+
+    @Test
+    void 범위_테스트() {
+        QuoteIndex index = new QuoteIndex();
+        int id = 1;
+
+        while (id <= 50) {
+            index.Add(new WiseQuote(id, "작가", "명언" + id));
+            id++;
+        }
+
+        index.Remove(15);
+
+        QuotePage range = index.RangePageDesc(10, 20, 1, 5);
+        QuotePage second = index.RangePageDesc(10, 20, 2, 5);
+
+        assertThat(range.totalCount()).isEqualTo(10);
+        assertThat(range.quotes()[0].id()).isEqualTo(20);
+        assertThat(range.quotes()[4].id()).isEqualTo(16);
+        assertThat(second.quotes()[0].id()).isEqualTo(14);
+        assertThat(index.RangePageDesc(60, 70, 1, 5).totalCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,89 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class QuoteJsonTest {
+
+    @Test
+    void 명언_파일_형식_테스트() {
+        byte[] json = QuoteJson.QuoteFileBytes(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("{\n"
+                + "  \"id\": 1,\n"
+                + "  \"content\": \"옛날통닭 두마리\",\n"
+                + "  \"author\": \"오상민\"\n"
+                + "}\n");
+    }
+
+    @Test
+    void 이스케이프_왕복_테스트() throws IOException {
+        WiseQuote quote = new WiseQuote(12, "A \"B\" \\ C", "줄\n바꿈\t탭 \u0001 😀");
+        byte[] json = QuoteJson.QuoteFileBytes(quote);
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\\\"B\\\" \\\\ C");
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("줄\\n바꿈\\t탭 \\u0001");
+
+        WiseQuote parsed = QuoteJson.ReadQuote(new JsonReader(ByteBuffer.wrap(json)));
+
+        assertThat(parsed).isEqualTo(quote);
+    }
+
+    @Test
+    void 필드_순서_무관_테스트() throws IOException {
+        String json = "{\"author\":\"오상민\",\"extra\":[1,{\"x\":\"}\"}],\"content\":\"\\uD55C\\uAE00\",\"id\":7}";
+        WiseQuote parsed = QuoteJson.ReadQuote(new JsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(parsed.id()).isEqualTo(7);
+        assertThat(parsed.content()).isEqualTo("한글");
+        assertThat(parsed.author()).isEqualTo("오상민");
+    }
+
+    @Test
+    void 스트리밍_배열_테스트() throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        int id = 1;
+
+        while (id <= 100) {
+            json.append(new String(QuoteJson.EntryBytes(new WiseQuote(id, "작가" + id, "명언 " + id)),
+                    StandardCharsets.UTF_8));
+            json.append(id < 100 ? ",\n" : "\n");
+            id++;
+        }
+
+        json.append("]\n");
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = new JsonReader(Channels.newChannel(new ByteArrayInputStream(bytes)), ByteBuffer.allocate(7));
+        List<WiseQuote> quotes = new ArrayList<>();
+        QuoteJson.ReadArray(reader, quotes::add);
+
+        assertThat(quotes).hasSize(100);
+        assertThat(quotes.get(99).author()).isEqualTo("작가100");
+        assertThat(quotes.get(0).content()).isEqualTo("명언 1");
+    }
+
+    @Test
+    void 잘못된_형식_테스트() {
+        String json = "{\"id\": 1, \"content\": \"끝나지 않은";
+        Exception exception = null;
+
+        try {
+            QuoteJson.ReadQuote(new JsonReader(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))));
+        } catch (IllegalArgumentException | IOException e) {
+            exception = e;
+        }
+
+        assertThat(exception).isInstanceOf(IllegalArgumentException.class);
+        assertThat(exception.getMessage()).contains("[ERROR] Json 형식이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,85 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class QuoteSnapshotTest {
+
+    private Path dbDir;
+
+    @BeforeEach
+    void Setup() throws IOException {
+        dbDir = Files.createTempDirectory("wise-snapshot");
+    }
+
+    @AfterEach
+    void Cleanup() {
+        DeleteDirectoryRecursively(dbDir);
+    }
+
+    @Test
+    void 저장_복원_테스트() {
+        QuoteSnapshot snapshot = new QuoteSnapshot(dbDir, StorageMode.LOG, 0);
+        QuoteIndex quotes = new QuoteIndex();
+        quotes.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        quotes.Add(new WiseQuote(3, "홍길동", "콜라는 코카콜라"));
+
+        snapshot.WriteOnClose(4, new StorageMark(2, 128), quotes);
+        List<WiseQuote> restored = new ArrayList<>();
+        SnapshotData data = new QuoteSnapshot(dbDir, StorageMode.LOG, 0).Read(restored::add);
+
+        assertThat(data).isNotNull();
+        assertThat(data.nextId()).isEqualTo(4);
+        assertThat(data.mark()).isEqualTo(new StorageMark(2, 128));
+        assertThat(data.quoteCount()).isEqualTo(2);
+        assertThat(restored.get(1).content()).isEqualTo("콜라는 코카콜라");
+    }
+
+    @Test
+    void 손상된_스냅샷_무시_테스트() throws IOException {
+        QuoteSnapshot snapshot = new QuoteSnapshot(dbDir, StorageMode.FILE, 0);
+        QuoteIndex quotes = new QuoteIndex();
+        quotes.Add(new WiseQuote(1, "오상민", "국장 하지마라"));
+        snapshot.WriteOnClose(2, new StorageMark(0, 0), quotes);
+
+        try (FileChannel channel = FileChannel.open(dbDir.resolve("snapshot.bin"), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        assertThat(new QuoteSnapshot(dbDir, StorageMode.FILE, 0).Read(quote -> { })).isNull();
+    }
+
+    @Test
+    void 저장_방식_불일치_무시_테스트() {
+        new QuoteSnapshot(dbDir, StorageMode.FILE, 0).WriteOnClose(1, new StorageMark(0, 0), new QuoteIndex());
+
+        assertThat(new QuoteSnapshot(dbDir, StorageMode.LOG, 0).Read(quote -> { })).isNull();
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class SearchIndexTest {
+
+    @Test
+    void 한글_영문_검색_테스트() {
+        SearchIndex index = new SearchIndex();
+        index.Add(new WiseQuote(1, "오상민", "옛날통닭 두마리"));
+        index.Add(new WiseQuote(2, "Steve Jobs", "Stay hungry stay foolish"));
+        index.Add(new WiseQuote(3, "오상민", "통닭은 역시 후라이드"));
+
+        assertThat(index.Search("통닭", 1, 10).ids()).containsExactly(3, 1);
+        assertThat(index.Search("닭", 1, 10).total()).isEqualTo(2);
+        assertThat(index.Search("HUNGRY", 1, 10).ids()).containsExactly(2);
+        assertThat(index.Search("stay jobs", 1, 10).ids()).containsExactly(2);
+        assertThat(index.Search("피자", 1, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    void 순위_테스트() {
+        SearchIndex index = new SearchIndex();
+        index.Add(new WiseQuote(1, "홍길동", "콜라는 펩시로"));
+        index.Add(new WiseQuote(2, "콜라왕", "사이다도 좋다"));
+
+        assertThat(index.Search("콜라", 1, 10).ids()).containsExactly(2, 1);
+    }
+
+    @Test
+    void 수정_삭제_반영_테스트() {
+        SearchIndex index = new SearchIndex();
+        WiseQuote before = new WiseQuote(1, "오상민", "옛날통닭 두마리");
+        WiseQuote after = new WiseQuote(1, "오상민", "콜라는 펩시로");
+        index.Add(before);
+        index.Add(new WiseQuote(2, "오상민", "통닭 한마리"));
+
+        index.Replace(before, after);
+        assertThat(index.Search("통닭", 1, 10).ids()).containsExactly(2);
+        assertThat(index.Search("펩시", 1, 10).ids()).containsExactly(1);
+
+        index.Remove(after);
+        assertThat(index.Search("펩시", 1, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    void 중간_수정_삭제_반복_테스트() {
+        SearchIndex index = new SearchIndex();
+        WiseQuote[] quotes = new WiseQuote[3000];
+        int i = 0;
+
+        while (i < quotes.length) {
+            quotes[i] = new WiseQuote(i + 1, "작가", "공통 명언");
+            index.Add(quotes[i]);
+            i++;
+        }
+
+        i = 0;
+
+        while (i < quotes.length) {
+            if (i % 3 == 0) {
+                index.Remove(quotes[i]);
+            } else if (i % 3 == 1) {
+                WiseQuote moved = new WiseQuote(i + 1, "작가", "다른 글");
+                index.Replace(quotes[i], moved);
+                quotes[i] = moved;
+            }
+
+            i++;
+        }
+
+        assertThat(index.Search("공통", 1, 10).total()).isEqualTo(1000);
+        assertThat(index.Search("다른", 1, 10).total()).isEqualTo(1000);
+
+        i = quotes.length - 2;
+
+        while (i >= 0) {
+            WiseQuote back = new WiseQuote(i + 1, "작가", "공통 명언");
+            index.Replace(quotes[i], back);
+            quotes[i] = back;
+            i -= 3;
+        }
+
+        IdPage page = index.Search("공통 명언", 1, 10);
+
+        assertThat(page.total()).isEqualTo(2000);
+        assertThat(page.ids()).containsExactly(3000, 2999, 2997, 2996, 2994, 2993, 2991, 2990, 2988, 2987);
+        assertThat(index.Search("다른", 1, 10).total()).isEqualTo(0);
+    }
+
+    @Test
+    void 병렬_색인_페이지_테스트() {
+        WiseQuote[] quotes = new WiseQuote[10000];
+        int i = 0;
+
+        while (i < quotes.length) {
+            String content = i % 2 == 0 ? "짝수 명언 " + i : "홀수 명언 " + i;
+            quotes[i] = new WiseQuote(i + 1, "작가", content);
+            i++;
+        }
+
+        SearchIndex index = SearchIndex.Build(quotes);
+        IdPage first = index.Search("짝수", 1, 10);
+        IdPage last = index.Search("짝수", 500, 10);
+
+        assertThat(first.total()).isEqualTo(5000);
+        assertThat(first.ids()[0]).isEqualTo(9999);
+        assertThat(last.ids()[9]).isEqualTo(1);
+        assertThat(index.Search("명언", 1, 10).total()).isEqualTo(10000);
+    }
+}
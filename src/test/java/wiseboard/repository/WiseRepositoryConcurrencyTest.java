@@ -0,0 +1,203 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.config.WiseConfig;
+import wiseboard.domain.QuotePage;
+import wiseboard.domain.WiseQuote;
+
+public class WiseRepositoryConcurrencyTest {
+
+    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
+    private static final int THREAD_COUNT = 8;
+    private static final int SAVES_PER_THREAD = 300;
+
+    @AfterEach
+    void Cleanup() {
+        System.clearProperty("wiseboard.storage");
+        System.clearProperty("wiseboard.durability");
+        DeleteDirectoryRecursively(DB_DIR);
+    }
+
+    @Test
+    void 동시_등록_수정_삭제_테스트() throws InterruptedException {
+        RunStress();
+    }
+
+    @Test
+    void 로그_그룹_커밋_동시성_테스트() throws InterruptedException {
+        System.setProperty("wiseboard.storage", "log");
+        System.setProperty("wiseboard.durability", "group");
+        RunStress();
+    }
+
+    @Test
+    void 가져오기_중_등록_번호_구간_테스트() throws IOException {
+        Path file = Files.createTempFile("import", ".ndjson");
+        StringBuilder lines = new StringBuilder();
+        int i = 1;
+
+        while (i <= 5000) {
+            lines.append("{\"content\": \"명언 ").append(i).append("\", \"author\": \"작가\"}\n");
+            i++;
+        }
+
+        Files.writeString(file, lines.toString());
+        WiseRepository repository = new WiseRepository(WiseConfig.Load());
+        AtomicInteger validated = new AtomicInteger();
+
+        try {
+            ImportReport report = repository.Import(file, quote -> {
+                if (validated.incrementAndGet() == 4097) {
+                    repository.Save("다른 작가", "끼어든 명언");
+                }
+            });
+
+            assertThat(report.importedCount()).isEqualTo(5000);
+            assertThat(report.RangeCount()).isEqualTo(2);
+            assertThat(report.FirstId(0)).isEqualTo(1);
+            assertThat(report.LastId(0)).isEqualTo(4096);
+            assertThat(report.FirstId(1)).isEqualTo(4098);
+            assertThat(report.LastId(1)).isEqualTo(5001);
+            assertThat(repository.FindById(4097).author()).isEqualTo("다른 작가");
+        } finally {
+            repository.Close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void RunStress() throws InterruptedException {
+        WiseRepository repository = new WiseRepository(WiseConfig.Load());
+        ConcurrentLinkedQueue<Integer> savedIds = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger deleted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[THREAD_COUNT];
+        int t = 0;
+
+        while (t < THREAD_COUNT) {
+            int worker = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    RunWorker(repository, worker, savedIds, deleted);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            workers[t].start();
+            t++;
+        }
+
+        start.countDown();
+        t = 0;
+
+        while (t < THREAD_COUNT) {
+            workers[t].join();
+            t++;
+        }
+
+        Set<Integer> unique = new HashSet<>(savedIds);
+        int expected = THREAD_COUNT * SAVES_PER_THREAD;
+        int live = expected - deleted.get();
+        QuotePage page = repository.FindPageDesc(1, 10);
+        int lastLiveId = LastLiveId(repository, expected);
+        int authorTotal = 0;
+        t = 0;
+
+        while (t < THREAD_COUNT) {
+            authorTotal += repository.CountByAuthor("작가" + t);
+            t++;
+        }
+
+        repository.Close();
+
+        assertThat(failures).isEmpty();
+        assertThat(savedIds).hasSize(expected);
+        assertThat(unique).hasSize(expected);
+        assertThat(unique.contains(1)).isTrue();
+        assertThat(unique.contains(expected)).isTrue();
+        assertThat(page.totalCount()).isEqualTo(live);
+        assertThat(page.quotes()[0].id()).isEqualTo(lastLiveId);
+        assertThat(authorTotal).isEqualTo(live);
+
+        WiseRepository reopened = new WiseRepository(WiseConfig.Load());
+        QuotePage restored = reopened.FindPageDesc(1, 10);
+        WiseQuote next = reopened.Save("작가", "다음 명언");
+        reopened.Close();
+
+        assertThat(restored.totalCount()).isEqualTo(live);
+        assertThat(next.id()).isEqualTo(expected + 1);
+    }
+
+    private void RunWorker(WiseRepository repository, int worker, ConcurrentLinkedQueue<Integer> savedIds,
+                           AtomicInteger deleted) {
+        int i = 0;
+
+        while (i < SAVES_PER_THREAD) {
+            WiseQuote saved = repository.Save("작가" + worker, "명언 " + worker + " " + i);
+            savedIds.add(saved.id());
+
+            WiseQuote found = repository.FindById(saved.id());
+
+            if (found == null || found.id() != saved.id()) {
+                throw new AssertionError("조회 실패: " + saved.id());
+            }
+
+            if (i % 3 == 0) {
+                repository.ReplaceById(saved.id(), "작가" + worker, "수정된 명언 " + i);
+            }
+
+            if (i % 5 == 0 && repository.DeleteById(saved.id())) {
+                deleted.incrementAndGet();
+            }
+
+            repository.FindPageDesc(1, 5);
+            repository.FindByAuthorDesc("작가" + worker, 1, Integer.MAX_VALUE, 1, 5);
+            repository.CountByAuthor("작가" + (i % THREAD_COUNT));
+            i++;
+        }
+    }
+
+    private int LastLiveId(WiseRepository repository, int expected) {
+        int id = expected;
+
+        while (id > 0 && repository.FindById(id) == null) {
+            id--;
+        }
+
+        return id;
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package wiseboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import wiseboard.domain.WiseQuote;
+
+public class WriteBehindStorageTest {
+
+    @Test
+    void 같은_번호_합치기_테스트() throws InterruptedException {
+        RecordingStorage delegate = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(delegate, 100);
+
+        storage.WriteRegister(new WiseQuote(99, "작가", "먼저"));
+        delegate.entered.await();
+
+        storage.WriteRegister(new WiseQuote(1, "작가", "처음"));
+        storage.WriteModify(new WiseQuote(1, "작가", "두번째"));
+        storage.WriteModify(new WiseQuote(1, "작가", "마지막"));
+        storage.WriteRegister(new WiseQuote(2, "작가", "취소"));
+        storage.WriteDelete(2);
+        storage.WriteModify(new WiseQuote(3, "작가", "수정"));
+        storage.WriteDelete(3);
+
+        assertThat(storage.Depth()).isEqualTo(2);
+        assertThat(storage.CoalescedCount()).isEqualTo(4);
+
+        delegate.gate.countDown();
+        storage.Flush();
+
+        assertThat(delegate.writes).containsExactly("등록 99 먼저", "등록 1 마지막", "삭제 3", "삭제 2");
+        assertThat(storage.Depth()).isEqualTo(0);
+        storage.Close();
+
+        assertThat(delegate.closed).isTrue();
+    }
+
+    @Test
+    void 종료시_비우기_테스트() {
+        RecordingStorage delegate = new RecordingStorage();
+        delegate.gate.countDown();
+        WriteBehindStorage storage = new WriteBehindStorage(delegate, 1);
+        int i = 1;
+
+        while (i <= 50) {
+            storage.WriteRegister(new WiseQuote(i, "작가", "명언" + i));
+            i++;
+        }
+
+        storage.Close();
+
+        assertThat(delegate.writes).hasSize(50);
+        assertThat(storage.PeakDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void 백그라운드_실패_테스트() {
+        RecordingStorage delegate = new RecordingStorage();
+        delegate.gate.countDown();
+        delegate.failing = true;
+        WriteBehindStorage storage = new WriteBehindStorage(delegate, 10);
+
+        storage.WriteRegister(new WiseQuote(1, "작가", "명언"));
+
+        assertThatThrownBy(storage::Flush)
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("백그라운드 저장에 실패했습니다");
+        assertThatThrownBy(() -> storage.WriteModify(new WiseQuote(2, "작가", "다른 명언")))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("디스크 오류");
+        assertThat(storage.Depth()).isEqualTo(1);
+
+        delegate.failing = false;
+        storage.Flush();
+        storage.Close();
+
+        assertThat(delegate.writes).containsExactly("등록 1 명언");
+    }
+
+    @Test
+    void 실패_후_재시도_삭제_테스트() throws InterruptedException {
+        RecordingStorage delegate = new RecordingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(delegate, 10);
+
+        storage.WriteRegister(new WiseQuote(99, "작가", "먼저"));
+        delegate.entered.await();
+
+        storage.WriteRegister(new WiseQuote(1, "작가", "첫째"));
+        storage.WriteRegister(new WiseQuote(2, "작가", "둘째"));
+        delegate.failId = 2;
+        delegate.gate.countDown();
+        delegate.reached.await();
+
+        storage.WriteDelete(1);
+        delegate.failId = 0;
+        delegate.resume.countDown();
+
+        FlushAfterRetry(storage);
+        storage.Close();
+
+        assertThat(delegate.writes).containsExactly("등록 99 먼저", "등록 1 첫째", "삭제 1", "등록 2 둘째");
+    }
+
+    private void FlushAfterRetry(WriteBehindStorage storage) {
+        int attempts = 0;
+
+        while (true) {
+            try {
+                storage.Flush();
+                return;
+            } catch (StorageException e) {
+                assertThat(e).hasMessageContaining("디스크 오류");
+                assertThat(++attempts).isLessThan(10);
+            }
+        }
+    }
+
+    private static class RecordingStorage implements QuoteStorage {
+
+        private final List<String> writes = new ArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final CountDownLatch reached = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+        private volatile boolean failing;
+        private volatile int failId;
+        private volatile boolean closed;
+
+        @Override
+        public LoadResult Load(QuoteIndex quotes) {
+            return null;
+        }
+
+        @Override
+        public LoadResult LoadAfter(QuoteIndex quotes, StorageMark mark) {
+            return null;
+        }
+
+        @Override
+        public StorageMark Mark() {
+            return null;
+        }
+
+        @Override
+        public void WriteRegister(WiseQuote quote) {
+            if (failing) {
+                throw new IllegalArgumentException("디스크 오류");
+            }
+
+            if (quote.id() == failId) {
+                reached.countDown();
+                Await(resume);
+                throw new IllegalArgumentException("디스크 오류");
+            }
+
+            writes.add("등록 " + quote.id() + " " + quote.content());
+        }
+
+        @Override
+        public void WriteModify(WiseQuote quote) {
+            writes.add("수정 " + quote.id() + " " + quote.content());
+        }
+
+        @Override
+        public void WriteDelete(int id) {
+            writes.add("삭제 " + id);
+        }
+
+        @Override
+        public void BeginBatch() {
+            entered.countDown();
+            Await(gate);
+        }
+
+        @Override
+        public void CommitBatch() {
+        }
+
+        @Override
+        public void Close() {
+            closed = true;
+        }
+
+        private void Await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package wiseboard.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wiseboard.repository.WiseRepository;
+import wiseboard.service.WiseService;
+
+public class WiseServerTest {
+
+    private static final Path DB_DIR = Paths.get("db", "wiseSaying");
+
+    private WiseServer wiseServer;
+    private HttpClient client;
+
+    @BeforeEach
+    void Setup() {
+        wiseServer = new WiseServer(new WiseService(new WiseRepository()), 0);
+        wiseServer.Start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void Cleanup() {
+        wiseServer.Stop();
+        DeleteDirectoryRecursively(DB_DIR);
+    }
+
+    @Test
+    void 등록_조회_수정_삭제_테스트() throws Exception {
+        HttpResponse<String> registered = Send("POST", "/quotes", "{\"content\": \"현재를 사랑하라\", \"author\": \"작자미상\"}");
+        assertThat(registered.statusCode()).isEqualTo(201);
+        assertThat(registered.body()).isEqualTo("{\"id\":1}");
+
+        HttpResponse<String> found = Send("GET", "/quotes/1", null);
+        assertThat(found.statusCode()).isEqualTo(200);
+        assertThat(found.body()).isEqualTo("{\"id\":1,\"content\":\"현재를 사랑하라\",\"author\":\"작자미상\"}");
+
+        HttpResponse<String> modified = Send("PUT", "/quotes/1", "{\"content\": \"과거에 집착하지 마라\", \"author\": \"홍길동\"}");
+        assertThat(modified.statusCode()).isEqualTo(200);
+        assertThat(modified.body()).contains("과거에 집착하지 마라");
+
+        assertThat(Send("DELETE", "/quotes/1", null).statusCode()).isEqualTo(204);
+        assertThat(Send("GET", "/quotes/1", null).statusCode()).isEqualTo(404);
+        assertThat(Send("DELETE", "/quotes/1", null).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void 목록_페이지_테스트() throws Exception {
+        int i = 1;
+
+        while (i <= 12) {
+            Send("POST", "/quotes", "{\"content\": \"명언 " + i + "\", \"author\": \"작가\"}");
+            i++;
+        }
+
+        HttpResponse<String> first = Send("GET", "/quotes", null);
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Content-Type").orElse("")).startsWith("application/json");
+        assertThat(first.body()).startsWith("{\"page\":1,\"size\":10,\"totalPages\":2,\"totalCount\":12,\"quotes\":[{\"id\":12,");
+
+        HttpResponse<String> second = Send("GET", "/quotes?page=2&size=10", null);
+        assertThat(second.body()).contains("{\"id\":2,");
+        assertThat(second.body()).endsWith("{\"id\":1,\"content\":\"명언 1\",\"author\":\"작가\"}]}");
+    }
+
+    @Test
+    void 잘못된_요청_테스트() throws Exception {
+        HttpResponse<String> blank = Send("POST", "/quotes", "{\"content\": \"\", \"author\": \"작가\"}");
+        assertThat(blank.statusCode()).isEqualTo(400);
+        assertThat(blank.body()).startsWith("{\"error\":\"[ERROR] ");
+
+        assertThat(Send("POST", "/quotes", "not json").statusCode()).isEqualTo(400);
+        assertThat(Send("GET", "/quotes/abc", null).statusCode()).isEqualTo(400);
+        assertThat(Send("GET", "/quotes?page=0", null).statusCode()).isEqualTo(400);
+        assertThat(Send("GET", "/unknown", null).statusCode()).isEqualTo(404);
+        assertThat(Send("DELETE", "/quotes", null).statusCode()).isEqualTo(405);
+    }
+
+    @Test
+    void 저장_실패_서버_오류_테스트() throws Exception {
+        assertThat(Send("POST", "/quotes", "{\"content\": \"명언 1\", \"author\": \"작가\"}").statusCode()).isEqualTo(201);
+
+        Files.createDirectories(DB_DIR.resolve("2.json"));
+        Files.createDirectories(DB_DIR.resolve("00").resolve("00").resolve("2.json"));
+
+        HttpResponse<String> failed = Send("POST", "/quotes", "{\"content\": \"명언 2\", \"author\": \"작가\"}");
+        assertThat(failed.statusCode()).isEqualTo(500);
+        assertThat(failed.body()).startsWith("{\"error\":\"[ERROR] ");
+    }
+
+    @Test
+    void 큰_요청_본문_테스트() throws Exception {
+        HttpResponse<String> tooLarge = Send("POST", "/quotes", "{\"content\": \"" + "a".repeat(1 << 20) + "\", \"author\": \"작가\"}");
+        assertThat(tooLarge.statusCode()).isEqualTo(413);
+        assertThat(tooLarge.body()).contains("요청 본문이 너무 큽니다");
+
+        assertThat(Send("POST", "/quotes", "{\"content\": \"명언 1\", \"author\": \"작가\"}").statusCode()).isEqualTo(201);
+        assertThat(Send("GET", "/quotes/1", null).statusCode()).isEqualTo(200);
+    }
+
+    private HttpResponse<String> Send(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + wiseServer.Port() + path))
+                .method(method, publisher)
+                .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void DeleteDirectoryRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                if (Files.isDirectory(p)) {
+                    DeleteDirectoryRecursively(p);
+                    continue;
+                }
+
+                Files.deleteIfExists(p);
+            }
+
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+        }
+    }
+}